@@ -36,35 +36,54 @@ function UploadPage({ onNavigateToList }) {
         objectName: ""
     });
 
-    // 컴포넌트 언마운트 시 폴링 정리
+    // 컴포넌트 언마운트 시 상태 대기 중단
     useEffect(() => {
-        return () => {
-            if (pollingRef.current) {
-                clearInterval(pollingRef.current);
-            }
-        };
+        return () => stopPolling();
     }, []);
 
-    // 상태 폴링 함수
+    const stopPolling = () => {
+        if (pollingRef.current) {
+            pollingRef.current.cancelled = true;
+            pollingRef.current = null;
+        }
+    };
+
+    // 상태 대기 (long-poll: 서버가 상태/진행률이 바뀔 때 응답하면 바로 다시 대기)
     const startPolling = (vid) => {
-        pollingRef.current = setInterval(async () => {
-            try {
-                const statusData = await videoAPI.getStatus(vid);
-                setMessage(statusData.message);
-
-                if (statusData.status === "COMPLETED") {
-                    clearInterval(pollingRef.current);
-                    setStatus("completed");
-                    loadResult(vid);
-                } else if (statusData.status === "FAILED") {
-                    clearInterval(pollingRef.current);
-                    setStatus("failed");
-                    setMessage("처리 실패");
+        stopPolling();
+        const session = { cancelled: false };
+        pollingRef.current = session;
+
+        const waitLoop = async (knownStatus, knownProgress) => {
+            while (!session.cancelled) {
+                try {
+                    const statusData = await videoAPI.waitForStatus(vid, knownStatus, knownProgress);
+                    if (session.cancelled) return;
+                    knownStatus = statusData.status;
+                    knownProgress = statusData.progress;
+                    setMessage(statusData.progress != null
+                        ? `${statusData.message} (${statusData.progress}%)`
+                        : statusData.message);
+
+                    if (statusData.status === "COMPLETED") {
+                        stopPolling();
+                        setStatus("completed");
+                        loadResult(vid);
+                        return;
+                    } else if (statusData.status === "FAILED") {
+                        stopPolling();
+                        setStatus("failed");
+                        setMessage("처리 실패");
+                        return;
+                    }
+                } catch (error) {
+                    console.error("상태 조회 실패:", error);
+                    // 네트워크 오류 시 잠시 쉬었다가 다시 대기
+                    await new Promise(resolve => setTimeout(resolve, 3000));
                 }
-            } catch (error) {
-                console.error("상태 조회 실패:", error);
             }
-        }, 3000);
+        };
+        waitLoop(null, null);
     };
 
     const handleFileSelect = (e) => {
@@ -154,7 +173,7 @@ function UploadPage({ onNavigateToList }) {
             object: false,
             objectName: ""
         });
-        if (pollingRef.current) clearInterval(pollingRef.current);
+        stopPolling();
     };
 
     return (
@@ -15,23 +15,82 @@ const Icons = {
 
 function VideoListPage({ onNavigateToUpload }) {
     const [videos, setVideos] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
     const [loading, setLoading] = useState(true);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [selectedVideo, setSelectedVideo] = useState(null);
     const [searchTerm, setSearchTerm] = useState('');
     const [filterStatus, setFilterStatus] = useState('ALL');
     const [isDeleting, setIsDeleting] = useState(false);
 
-    useEffect(() => { loadVideos(); }, []);
+    useEffect(() => { loadVideos(); }, [filterStatus]);
+
+    // 상태 필터는 서버에서 적용, 다음 페이지는 nextCursor로 이어서 조회
+    // 다운로드 URL은 목록과 분리해서 완료된 비디오만 한 번에 서명 요청
+    const fetchPage = async (cursor) => {
+        const page = await videoAPI.getMyVideoPage({
+            status: filterStatus === 'ALL' ? null : filterStatus,
+            cursor,
+        });
+        const completedIds = page.items.filter(v => v.status === 'COMPLETED').map(v => v.videoId);
+        if (completedIds.length === 0) return page;
+
+        const urls = await videoAPI.getVideoUrls(completedIds);
+        const urlById = Object.fromEntries(urls.map(u => [u.videoId, u]));
+        return {
+            ...page,
+            items: page.items.map(v => urlById[v.videoId] ? { ...v, ...urlById[v.videoId] } : v),
+        };
+    };
 
     const loadVideos = async () => {
         try {
             setLoading(true);
-            const data = await videoAPI.getMyVideos();
-            setVideos(data);
+            const page = await fetchPage(null);
+            setVideos(page.items);
+            setNextCursor(page.nextCursor);
         } catch (err) { console.error(err); }
         finally { setLoading(false); }
     };
 
+    const loadMore = async () => {
+        if (!nextCursor) return;
+        try {
+            setLoadingMore(true);
+            const page = await fetchPage(nextCursor);
+            setVideos(prev => [...prev, ...page.items]);
+            setNextCursor(page.nextCursor);
+        } catch (err) { console.error(err); }
+        finally { setLoadingMore(false); }
+    };
+
+    // 처리 중인 비디오는 일괄 상태 조회 한 번으로 폴링 (changeToken 이후 바뀐 것만 받음)
+    const inFlightKey = videos
+        .filter(v => v.status === 'UPLOADED' || v.status === 'PROCESSING')
+        .map(v => v.videoId)
+        .join(',');
+
+    useEffect(() => {
+        if (!inFlightKey) return;
+        const videoIds = inFlightKey.split(',');
+        let since = null;
+        const timer = setInterval(async () => {
+            try {
+                const result = await videoAPI.getStatuses(videoIds, since);
+                since = result.changeToken;
+                if (result.statuses.length === 0) return;
+                // 완료된 비디오가 있으면 통계/다운로드 URL까지 다시 받음
+                if (result.statuses.some(s => s.status === 'COMPLETED')) {
+                    loadVideos();
+                    return;
+                }
+                const byId = Object.fromEntries(result.statuses.map(s => [s.videoId, s]));
+                setVideos(prev => prev.map(v => byId[v.videoId] ? { ...v, status: byId[v.videoId].status } : v));
+            } catch (err) { console.error(err); }
+        }, 5000);
+        return () => clearInterval(timer);
+    }, [inFlightKey]);
+
     const handleDelete = async (id) => {
         if (!confirm('정말 삭제하시겠습니까? 삭제된 데이터는 복구할 수 없습니다.')) return;
         try {
@@ -43,11 +102,9 @@ function VideoListPage({ onNavigateToUpload }) {
         finally { setIsDeleting(false); }
     };
 
-    const filteredVideos = videos.filter(video => {
-        const matchesSearch = video.originalFilename.toLowerCase().includes(searchTerm.toLowerCase());
-        const matchesStatus = filterStatus === 'ALL' || video.status === filterStatus;
-        return matchesSearch && matchesStatus;
-    });
+    const filteredVideos = videos.filter(video =>
+        video.originalFilename.toLowerCase().includes(searchTerm.toLowerCase())
+    );
 
     const getStatusBadge = (status) => {
         const config = {
@@ -124,6 +181,14 @@ function VideoListPage({ onNavigateToUpload }) {
                 </div>
             )}
 
+            {!loading && nextCursor && (
+                <div style={{textAlign: 'center', marginTop: '24px'}}>
+                    <button onClick={loadMore} className="filter-btn" disabled={loadingMore}>
+                        {loadingMore ? '불러오는 중...' : '더 보기'}
+                    </button>
+                </div>
+            )}
+
             {/* 상세 모달 */}
             {selectedVideo && (
                 <div className="modal-backdrop" onClick={() => !isDeleting && setSelectedVideo(null)}>
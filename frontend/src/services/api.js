@@ -170,18 +170,60 @@ export const videoAPI = {
         return response.data;
     },
 
+    // 4-1. 상태 변경 대기 (long-poll, 상태/진행률이 바뀌거나 타임아웃 시 응답)
+    waitForStatus: async (videoId, knownStatus, knownProgress) => {
+        const response = await apiClient.get(`/videos/${videoId}/status/wait`, {
+            params: {
+                knownStatus: knownStatus || undefined,
+                knownProgress: knownProgress ?? undefined,
+            },
+        });
+        return response.data;
+    },
+
     // 5. 결과 조회
     getResult: async (videoId) => {
         const response = await apiClient.get(`/videos/${videoId}`);
         return response.data;
     },
 
+    // 5-1. 탐지 결과 조건 조회 (fromFrame, toFrame, objectType, classId, minConfidence, cursor, size)
+    queryDetections: async (videoId, params = {}) => {
+        const response = await apiClient.get(`/videos/${videoId}/detections`, { params });
+        return response.data;
+    },
+
     // 6. 내 비디오 목록
     getMyVideos: async () => {
         const response = await apiClient.get('/videos/my-videos');
         return response.data;
     },
 
+    // 6-1. 내 비디오 목록 페이지 (status: COMPLETED/PROCESSING..., cursor: 이전 응답의 nextCursor)
+    getMyVideoPage: async ({ status, cursor, size = 20, include } = {}) => {
+        const response = await apiClient.get('/videos', {
+            params: {
+                status: status || undefined,
+                cursor: cursor || undefined,
+                size,
+                include: include ? include.join(',') : undefined,
+            },
+        });
+        return response.data;
+    },
+
+    // 6-2. 다운로드 URL 일괄 조회 (videoIds: 화면에 보이는 비디오들)
+    getVideoUrls: async (videoIds) => {
+        const response = await apiClient.post('/videos/urls', { videoIds });
+        return response.data;
+    },
+
+    // 6-3. 일괄 상태 조회 (videoIds 가 비어 있으면 처리 중인 내 비디오 전부, since: 이전 응답의 changeToken)
+    getStatuses: async (videoIds, since) => {
+        const response = await apiClient.post('/videos/statuses', { videoIds, since: since || undefined });
+        return response.data;
+    },
+
     // 7. Health Check
     healthCheck: async () => {
         const response = await axios.get(`${API_BASE_URL}/videos/health`);
@@ -15,7 +15,7 @@ export class WebSocketService {
                     console.log('✅ WebSocket 연결 성공!');
                     this.connected = true;
 
-                    this.client.subscribe(`/topic/progress/${videoId}`, (message) => {
+                    this.client.subscribe(`/topic/videos/${videoId}`, (message) => {
                         const progress = JSON.parse(message.body);
                         console.log('📡 Progress:', progress);
                         onProgress && onProgress(progress);
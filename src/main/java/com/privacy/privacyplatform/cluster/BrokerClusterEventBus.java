@@ -0,0 +1,74 @@
+package com.privacy.privacyplatform.cluster;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 STOMP 브로커(RabbitMQ / ActiveMQ) 이벤트 버스
+ * - WebSocketConfig 가 /topic 을 브로커 릴레이로 바꾸므로 구독자 전달은 브로커가 모든 노드에 해 줌
+ * - 노드 간 상태 동기화용 이벤트는 릴레이의 system 연결로 전용 목적지(app.cluster.broker.destination)에서 주고받음
+ *   (클라이언트 prefix /topic 밖이고, 클라이언트의 SEND/SUBSCRIBE 는 WebSocketConfig 에서 거부)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cluster.event-bus", havingValue = "broker")
+public class BrokerClusterEventBus extends BufferedClusterEventBus {
+
+    private static final TypeReference<List<ClusterEvent>> EVENT_LIST = new TypeReference<>() {};
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final String destination;
+
+    public BrokerClusterEventBus(
+            SimpMessagingTemplate messagingTemplate,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Qualifier("stompBrokerRelayMessageHandler") AbstractBrokerMessageHandler brokerHandler,
+            @Value("${app.cluster.broker.destination:/exchange/privacy.cluster/events}") String destination) {
+        super(eventPublisher, meterRegistry);
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.destination = destination;
+
+        if (!(brokerHandler instanceof StompBrokerRelayMessageHandler relay)) {
+            throw new IllegalStateException("app.cluster.event-bus=broker 는 STOMP 브로커 릴레이가 필요합니다");
+        }
+        // 릴레이 시작 전에 등록해야 system 연결에서 구독됨
+        relay.setSystemSubscriptions(Map.of(destination, this::onMessage));
+    }
+
+    @Override
+    public boolean sharesClientBroker() {
+        return true;
+    }
+
+    @Override
+    protected void send(List<ClusterEvent> batch) {
+        messagingTemplate.convertAndSend(destination, batch);
+    }
+
+    private void onMessage(Message<?> message) {
+        if (!(message.getPayload() instanceof byte[] payload)) return;
+        try {
+            received(objectMapper.readValue(payload, EVENT_LIST));
+        } catch (Exception e) {
+            log.warn("클러스터 이벤트 파싱 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.privacy.privacyplatform.cluster;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 보낼 이벤트를 모아 두었다가 주기마다 한 번에 전송 (같은 비디오의 진행률은 마지막 것만)
+ * 받은 이벤트도 자기 노드 것을 걸러내고 병합한 뒤 한 번에 발행
+ */
+@Slf4j
+public abstract class BufferedClusterEventBus implements ClusterEventBus {
+
+    protected final String nodeId = UUID.randomUUID().toString();
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter sentCounter;
+    private final Counter receivedCounter;
+
+    private List<ClusterEvent> outgoing = new ArrayList<>();
+
+    protected BufferedClusterEventBus(ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.eventPublisher = eventPublisher;
+        this.sentCounter = Counter.builder("cluster.events")
+                .tag("direction", "sent")
+                .description("다른 노드로 보낸 이벤트 수 (병합 후)")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("cluster.events")
+                .tag("direction", "received")
+                .description("다른 노드에서 받은 이벤트 수 (병합 후)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(ClusterEvent event) {
+        event.setOrigin(nodeId);
+        synchronized (this) {
+            outgoing.add(event);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.flush-interval-ms:200}")
+    void flushOutgoing() {
+        List<ClusterEvent> batch;
+        synchronized (this) {
+            if (outgoing.isEmpty()) return;
+            batch = outgoing;
+            outgoing = new ArrayList<>();
+        }
+
+        batch = ClusterEvent.coalesce(batch);
+        try {
+            send(batch);
+            sentCounter.increment(batch.size());
+        } catch (Exception e) {
+            // 상태는 각 노드의 DB 조회 / TTL 로 결국 맞춰지므로 재시도하지 않음
+            log.warn("클러스터 이벤트 전송 실패: {}건, error={}", batch.size(), e.getMessage());
+        }
+    }
+
+    protected abstract void send(List<ClusterEvent> batch);
+
+    /**
+     * 받은 이벤트 반영 (구현의 수신 스레드에서 호출)
+     */
+    protected void received(List<ClusterEvent> events) {
+        List<ClusterEvent> remote = new ArrayList<>(events.size());
+        for (ClusterEvent event : events) {
+            if (!nodeId.equals(event.getOrigin())) remote.add(event);
+        }
+        if (remote.isEmpty()) return;
+
+        remote = ClusterEvent.coalesce(remote);
+        receivedCounter.increment(remote.size());
+        eventPublisher.publishEvent(new ClusterEventBatch(remote));
+    }
+}
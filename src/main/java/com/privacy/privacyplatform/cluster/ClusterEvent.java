@@ -0,0 +1,140 @@
+package com.privacy.privacyplatform.cluster;
+
+import com.privacy.privacyplatform.video.entity.enums.ProcessStatus;
+import com.privacy.privacyplatform.video.status.VideoStatusChangedEvent;
+import com.privacy.privacyplatform.websocket.dto.ProgressMessage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 노드 간에 전달하는 이벤트 (상태 변경 / AI 진행률 / 비디오 삭제)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterEvent {
+
+    public enum Type {
+        STATUS,
+        PROGRESS,
+        DELETED
+    }
+
+    private Type type;
+    private String videoId;
+
+    // 보낸 노드 (받은 쪽에서 자기 이벤트는 건너뜀)
+    private String origin;
+
+    // STATUS
+    private Long ownerUserPk;
+    private ProcessStatus status;
+    private Integer frameCount;
+    private Integer processedFrameCount;
+    private boolean progressOnly;
+
+    // PROGRESS
+    private Integer percentage;
+    private String message;
+
+    private LocalDateTime timestamp;
+
+    public static ClusterEvent status(VideoStatusChangedEvent event) {
+        return ClusterEvent.builder()
+                .type(Type.STATUS)
+                .videoId(event.getVideoId())
+                .ownerUserPk(event.getOwnerUserPk())
+                .status(event.getStatus())
+                .frameCount(event.getFrameCount())
+                .processedFrameCount(event.getProcessedFrameCount())
+                .progressOnly(event.isProgressOnly())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    public static ClusterEvent progress(ProgressMessage message) {
+        return ClusterEvent.builder()
+                .type(Type.PROGRESS)
+                .videoId(message.getVideoId())
+                .percentage(message.getPercentage())
+                .message(message.getMessage())
+                .timestamp(message.getTimestamp())
+                .build();
+    }
+
+    public static ClusterEvent deleted(String videoId) {
+        return ClusterEvent.builder()
+                .type(Type.DELETED)
+                .videoId(videoId)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    public VideoStatusChangedEvent toStatusChangedEvent() {
+        return new VideoStatusChangedEvent(videoId, ownerUserPk, status, frameCount, processedFrameCount,
+                progressOnly, true);
+    }
+
+    /**
+     * 구독자에게 보낼 메시지 (진행률만 바뀐 상태 변경은 null)
+     */
+    public ProgressMessage toProgressMessage() {
+        if (type == Type.PROGRESS) {
+            return ProgressMessage.builder()
+                    .videoId(videoId)
+                    .status(ProcessStatus.PROCESSING.name())
+                    .percentage(percentage)
+                    .message(message)
+                    .timestamp(timestamp)
+                    .build();
+        }
+        if (type != Type.STATUS || progressOnly) return null;
+
+        Integer statusPercentage = switch (status) {
+            case COMPLETED -> 100;
+            case UPLOADED -> 0;
+            default -> null;
+        };
+        return ProgressMessage.builder()
+                .videoId(videoId)
+                .status(status.name())
+                .percentage(statusPercentage)
+                .timestamp(timestamp)
+                .build();
+    }
+
+    /**
+     * 같은 비디오의 진행률 이벤트는 마지막 것만 남김 (나머지는 순서 유지)
+     */
+    public static List<ClusterEvent> coalesce(List<ClusterEvent> events) {
+        if (events.size() < 2) return events;
+
+        Set<String> seen = new HashSet<>();
+        List<ClusterEvent> kept = new ArrayList<>(events.size());
+        for (int i = events.size() - 1; i >= 0; i--) {
+            ClusterEvent event = events.get(i);
+            String key = event.coalesceKey();
+            if (key == null || seen.add(key)) {
+                kept.add(event);
+            }
+        }
+        Collections.reverse(kept);
+        return kept;
+    }
+
+    private String coalesceKey() {
+        if (type == Type.PROGRESS) return "p:" + videoId;
+        if (type == Type.STATUS && progressOnly) return "s:" + videoId;
+        return null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.privacy.privacyplatform.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 다른 노드에서 받은 이벤트 묶음 (ClusterEventBus 구현이 로컬 ApplicationEvent 로 발행)
+ */
+@Getter
+@AllArgsConstructor
+public class ClusterEventBatch {
+    private final List<ClusterEvent> events;
+}
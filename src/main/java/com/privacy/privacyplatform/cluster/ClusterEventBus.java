@@ -0,0 +1,18 @@
+package com.privacy.privacyplatform.cluster;
+
+/**
+ * 노드 간 이벤트 전달 (app.cluster.event-bus = local | jdbc | broker)
+ * 보낸 노드는 직접 반영하므로 구현은 다른 노드에만 전달하면 됨
+ * 받은 이벤트는 ClusterEventBatch 로 발행
+ */
+public interface ClusterEventBus {
+
+    void publish(ClusterEvent event);
+
+    /**
+     * WebSocket 구독이 노드 간 공유 브로커에 있는지 (그러면 받은 이벤트를 로컬 구독자에게 다시 보내지 않음)
+     */
+    default boolean sharesClientBroker() {
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+package com.privacy.privacyplatform.cluster;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * JDBC 이벤트 버스 테이블 (노드가 보낸 이벤트 묶음 하나가 한 행, 짧게 보관 후 삭제)
+ * 읽기/쓰기는 JdbcClusterEventBus 가 직접 하고 엔티티는 스키마 생성용
+ */
+@Entity
+@Table(name = "cluster_events",
+        indexes = @Index(name = "idx_cluster_events_created", columnList = "created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterEventRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "origin", nullable = false, length = 36)
+    private String origin;
+
+    // List<ClusterEvent> JSON
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
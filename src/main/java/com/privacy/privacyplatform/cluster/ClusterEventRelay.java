@@ -0,0 +1,134 @@
+package com.privacy.privacyplatform.cluster;
+
+import com.privacy.privacyplatform.video.frameindex.FrameIndexCache;
+import com.privacy.privacyplatform.video.ingest.CallbackDeduplicator;
+import com.privacy.privacyplatform.video.resultcache.VideoResultCache;
+import com.privacy.privacyplatform.video.status.VideoStatusChangedEvent;
+import com.privacy.privacyplatform.video.status.VideoStatusRegistry;
+import com.privacy.privacyplatform.websocket.dto.ProgressMessage;
+import com.privacy.privacyplatform.websocket.service.ProgressBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상태 / 진행률 / 삭제 이벤트를 이 노드의 구독자에게 전달하고 다른 노드로도 보냄
+ * 다른 노드에서 받은 이벤트는 이 노드의 상태 맵, 상태 변경 대기자, 캐시, 구독자에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterEventRelay {
+
+    private final ClusterEventBus clusterEventBus;
+    private final ProgressBroadcaster progressBroadcaster;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VideoStatusRegistry videoStatusRegistry;
+    private final VideoResultCache videoResultCache;
+    private final FrameIndexCache frameIndexCache;
+    private final CallbackDeduplicator callbackDeduplicator;
+
+    /**
+     * AI 진행률 (DB 저장 없음)
+     */
+    public void publishProgress(ProgressMessage message) {
+        progressBroadcaster.submit(message);
+        clusterEventBus.publish(ClusterEvent.progress(message));
+    }
+
+    /**
+     * 비디오 삭제 (커밋 후 한 번에 이 노드의 캐시 / 상태 맵을 비우고 다른 노드에도 알림)
+     * - 커밋 전에 비우면 그 사이 조회가 삭제 전 데이터로 캐시를 다시 채울 수 있음
+     */
+    public void publishDeleted(String videoId) {
+        afterCommit(() -> {
+            evictLocal(videoId);
+            clusterEventBus.publish(ClusterEvent.deleted(videoId));
+        });
+    }
+
+    /**
+     * 이 노드에서 커밋된 상태 변경
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(VideoStatusChangedEvent event) {
+        if (event.isRemote()) return;
+
+        ClusterEvent clusterEvent = ClusterEvent.status(event);
+        ProgressMessage message = clusterEvent.toProgressMessage();
+        if (message != null) {
+            progressBroadcaster.submit(message);
+        }
+        clusterEventBus.publish(clusterEvent);
+    }
+
+    /**
+     * 다른 노드에서 받은 이벤트 (버스 구현의 수신 스레드)
+     */
+    @EventListener
+    public void onRemoteEvents(ClusterEventBatch batch) {
+        for (ClusterEvent event : batch.getEvents()) {
+            try {
+                apply(event);
+            } catch (Exception e) {
+                log.warn("클러스터 이벤트 반영 실패: type={}, videoId={}, error={}",
+                        event.getType(), event.getVideoId(), e.getMessage());
+            }
+        }
+    }
+
+    private void apply(ClusterEvent event) {
+        String videoId = event.getVideoId();
+        switch (event.getType()) {
+            case STATUS -> {
+                // 트랜잭션 밖이라 상태 맵 / 대기자 리스너가 바로 실행됨
+                eventPublisher.publishEvent(event.toStatusChangedEvent());
+                // 재처리(PROCESSING) / 완료(COMPLETED) 등으로 결과가 바뀌었으므로 이 노드의 프레임 인덱스도 버림
+                // (재처리 때 지워진 receipt의 중복 판별 키도 함께)
+                if (!event.isProgressOnly()) {
+                    videoResultCache.invalidate(videoId);
+                    frameIndexCache.evict(videoId);
+                    callbackDeduplicator.evictVideo(videoId);
+                }
+            }
+            case DELETED -> {
+                evictLocal(videoId);
+                return;
+            }
+            case PROGRESS -> {
+            }
+        }
+
+        if (!clusterEventBus.sharesClientBroker()) {
+            ProgressMessage message = event.toProgressMessage();
+            if (message != null) {
+                progressBroadcaster.submit(message);
+            }
+        }
+    }
+
+    private void evictLocal(String videoId) {
+        frameIndexCache.evict(videoId);
+        callbackDeduplicator.evictVideo(videoId);
+        videoResultCache.invalidate(videoId);
+        videoStatusRegistry.evict(videoId);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package com.privacy.privacyplatform.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DB 테이블 폴링 이벤트 버스 (외부 서비스 없이 여러 노드 운영)
+ * - 보낼 때: 주기마다 모인 이벤트를 JSON 한 행으로 INSERT
+ * - 받을 때: 마지막으로 읽은 id 이후 행을 주기적으로 읽음
+ * - id 사이에 빈 곳이 있으면 아직 커밋 안 된 INSERT일 수 있어서 gap-timeout 동안 그 앞에서 멈춤
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cluster.event-bus", havingValue = "jdbc")
+public class JdbcClusterEventBus extends BufferedClusterEventBus {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cluster_events (origin, payload, created_at) VALUES (?, ?, ?)";
+    private static final String SELECT_SQL =
+            "SELECT id, origin, payload FROM cluster_events WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String DELETE_SQL =
+            "DELETE FROM cluster_events WHERE created_at < ? LIMIT 10000";
+    private static final TypeReference<List<ClusterEvent>> EVENT_LIST = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int pollBatchSize;
+    private final long gapTimeoutMs;
+    private final long retentionMinutes;
+
+    // 폴링 스레드에서만 갱신 (-1: 기동 전)
+    private volatile long lastSeenId = -1;
+    private long gapSince;
+
+    private record Row(long id, String origin, String payload) {}
+
+    public JdbcClusterEventBus(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.cluster.jdbc.poll-batch-size:200}") int pollBatchSize,
+            @Value("${app.cluster.jdbc.gap-timeout-ms:2000}") long gapTimeoutMs,
+            @Value("${app.cluster.jdbc.retention-minutes:10}") long retentionMinutes) {
+        super(eventPublisher, meterRegistry);
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.pollBatchSize = pollBatchSize;
+        this.gapTimeoutMs = gapTimeoutMs;
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    /**
+     * 기동 이전 이벤트는 읽지 않음 (스키마 생성 후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cluster_events", Long.class);
+        lastSeenId = maxId != null ? maxId : 0;
+        log.info("클러스터 이벤트 버스(jdbc) 시작: nodeId={}, lastSeenId={}", nodeId, lastSeenId);
+    }
+
+    @Override
+    protected void send(List<ClusterEvent> batch) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(batch);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        jdbcTemplate.update(INSERT_SQL, nodeId, payload, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.jdbc.poll-interval-ms:250}")
+    void poll() {
+        if (lastSeenId < 0) return;
+
+        List<Row> rows = jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("origin"), rs.getString("payload")),
+                lastSeenId, pollBatchSize);
+
+        List<ClusterEvent> events = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.id() != lastSeenId + 1) {
+                long now = System.currentTimeMillis();
+                if (gapSince == 0) gapSince = now;
+                if (now - gapSince < gapTimeoutMs) break;
+            }
+            gapSince = 0;
+            lastSeenId = row.id();
+
+            if (nodeId.equals(row.origin())) continue;
+            try {
+                events.addAll(objectMapper.readValue(row.payload(), EVENT_LIST));
+            } catch (JsonProcessingException e) {
+                log.warn("클러스터 이벤트 파싱 실패: id={}, error={}", row.id(), e.getMessage());
+            }
+        }
+
+        if (!events.isEmpty()) {
+            received(events);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.jdbc.cleanup-interval-ms:60000}")
+    void cleanup() {
+        int deleted = jdbcTemplate.update(DELETE_SQL,
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(retentionMinutes)));
+        if (deleted > 0) {
+            log.debug("클러스터 이벤트 정리: {}행", deleted);
+        }
+    }
+}
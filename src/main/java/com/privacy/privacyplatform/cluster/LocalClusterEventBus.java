@@ -0,0 +1,16 @@
+package com.privacy.privacyplatform.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 (다른 노드가 없으므로 전달하지 않음)
+ */
+@Component
+@ConditionalOnProperty(name = "app.cluster.event-bus", havingValue = "local", matchIfMissing = true)
+public class LocalClusterEventBus implements ClusterEventBus {
+
+    @Override
+    public void publish(ClusterEvent event) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.privacy.privacyplatform.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 바이너리 응답 포맷 (Accept 헤더로 선택)
+ * - application/x-jackson-smile, application/cbor: 필드 이름 반복이 없어 탐지 결과 응답이 JSON보다 작음
+ * - JSON과 같은 ObjectMapper 설정(날짜 포맷, 모듈)을 쓰도록 Boot 빌더로 생성
+ * - 기본 컨버터와 같은 타입이라 목록에서 JSON 뒤 같은 자리를 대체 (Accept 가 와일드카드면 그대로 JSON)
+ */
+@Configuration
+public class MessageConverterConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -1,19 +1,65 @@
 package com.privacy.privacyplatform.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.web.socket.config.annotation.*;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    @Value("${app.cluster.event-bus:local}")
+    private String eventBus;
+
+    @Value("${app.cluster.broker.host:localhost}")
+    private String brokerHost;
+
+    @Value("${app.cluster.broker.port:61613}")
+    private int brokerPort;
+
+    @Value("${app.cluster.broker.login:guest}")
+    private String brokerLogin;
+
+    @Value("${app.cluster.broker.passcode:guest}")
+    private String brokerPasscode;
+
+    @Value("${app.cluster.broker.destination:/exchange/privacy.cluster/events}")
+    private String clusterDestination;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config){
         // 메시지 브로커 설정
-        config.enableSimpleBroker("/topic"); // 클라이언트가 구독할 prefix
+        if ("broker".equals(eventBus)) {
+            // 여러 노드가 외부 STOMP 브로커를 공유 (어느 노드에 연결된 구독자든 메시지를 받음)
+            // 노드 간 이벤트 목적지는 system 연결로만 쓰지만 릴레이가 전달하도록 prefix 에 포함
+            config.enableStompBrokerRelay("/topic", clusterDestination)
+                    .setRelayHost(brokerHost)
+                    .setRelayPort(brokerPort)
+                    .setClientLogin(brokerLogin)
+                    .setClientPasscode(brokerPasscode)
+                    .setSystemLogin(brokerLogin)
+                    .setSystemPasscode(brokerPasscode);
+        } else {
+            config.enableSimpleBroker("/topic"); // 클라이언트가 구독할 prefix
+        }
         config.setApplicationDestinationPrefixes("/app"); // 클라이언트가 메시지 보낼 prefix
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // /ws 는 인증 없이 열려 있으므로 클라이언트 프레임의 목적지를 제한
+        registration.interceptors(new ClientDestinationInterceptor(clusterDestination));
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // WebSocket 엔드포인트 등록
@@ -21,4 +67,35 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS(); // SockJS 풀백 옵션
     }
+
+    /**
+     * 클라이언트 프레임 목적지 제한
+     * - SEND: /app 만 허용 (브로커 목적지로 직접 보내서 다른 구독자에게 위조 메시지를 뿌리지 못하게)
+     * - SUBSCRIBE: 노드 간 이벤트 목적지 거부
+     */
+    static class ClientDestinationInterceptor implements ChannelInterceptor {
+
+        private final String clusterDestination;
+
+        ClientDestinationInterceptor(String clusterDestination) {
+            this.clusterDestination = clusterDestination;
+        }
+
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+            if (accessor == null || accessor.getCommand() == null) return message;
+
+            String destination = accessor.getDestination();
+            if (accessor.getCommand() == StompCommand.SEND
+                    && (destination == null || !destination.startsWith("/app/"))) {
+                throw new MessagingException("허용되지 않은 목적지입니다: " + destination);
+            }
+            if (accessor.getCommand() == StompCommand.SUBSCRIBE
+                    && (destination == null || destination.startsWith(clusterDestination))) {
+                throw new MessagingException("허용되지 않은 목적지입니다: " + destination);
+            }
+            return message;
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.privacy.privacyplatform.external.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * AI 서버 청크 콜백 (프레임 구간별 탐지 결과를 나눠서 전송)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AICallbackChunkRequest {
+
+    private String videoId;
+
+    // 0부터 시작하는 청크 순번 (재전송 시 같은 값 → 중복 제거)
+    private Integer sequence;
+
+    // 이 청크가 담당하는 프레임 구간 [frameStart, frameEnd]
+    private Integer frameStart;
+    private Integer frameEnd;
+
+    // 전체 프레임 수 (알고 있으면 진행률 계산에 사용)
+    private Integer totalFrames;
+
+    // 마지막 청크 여부
+    private Boolean last;
+
+    private List<AICallbackRequest.DetectionResult> detections;
+
+    // 마지막 청크에만 채워짐
+    private String maskedUrl;
+    private Integer frameCount;
+    private Integer processingTimeMs;
+    private AICallbackRequest.Statistics statistics;
+}
@@ -0,0 +1,17 @@
+package com.privacy.privacyplatform.external.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AICallbackChunkResponse {
+    private String videoId;
+    private Integer sequence;
+    private Boolean duplicate;   // 이미 받은 청크였는지
+    private Boolean completed;   // 모든 청크 수신 완료 여부
+}
@@ -0,0 +1,24 @@
+package com.privacy.privacyplatform.external.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 서버 진행률 알림 (처리 중 수시로 전송, 결과는 콜백으로 별도 전송)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AIProgressRequest {
+
+    private String videoId;
+
+    // 0 ~ 100
+    private Integer percentage;
+
+    // 진행 단계 설명 (선택)
+    private String message;
+}
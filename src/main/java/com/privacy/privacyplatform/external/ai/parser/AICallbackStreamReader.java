@@ -0,0 +1,191 @@
+package com.privacy.privacyplatform.external.ai.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.privacy.privacyplatform.external.ai.dto.AICallbackRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 콜백 본문 스트리밍 파서
+ * - detections 배열을 토큰 단위로 읽어 batchSize 만큼씩 돌려줌 (전체 목록을 힙에 올리지 않음)
+ * - detections 외 필드(videoId, frameCount, statistics 등)는 getHeader()에 채워짐
+ *
+ * 사용법:
+ * <pre>
+ * while ((batch = reader.nextBatch()) != null) { ... }
+ * AICallbackRequest header = reader.getHeader();  // 본문 끝까지 읽은 뒤 완성
+ * </pre>
+ * videoId가 detections 뒤에 올 수 있으므로 저장 전에 readVideoId()로 먼저 찾음 (다시 열 수 있는 본문)
+ */
+public class AICallbackStreamReader implements Closeable {
+
+    /**
+     * 여러 번 열 수 있는 본문 (스풀 레코드)
+     */
+    @FunctionalInterface
+    public interface BodySource {
+        InputStream open() throws IOException;
+    }
+
+    private final JsonParser parser;
+    private final int batchSize;
+    private final AICallbackRequest header = new AICallbackRequest();
+
+    private boolean started = false;
+    private boolean inDetections = false;
+    private boolean finished = false;
+
+    private AICallbackStreamReader(JsonParser parser, int batchSize) {
+        this.parser = parser;
+        this.batchSize = batchSize;
+    }
+
+    public static AICallbackStreamReader open(ObjectMapper objectMapper, InputStream in, int batchSize) throws IOException {
+        return new AICallbackStreamReader(objectMapper.createParser(in), batchSize);
+    }
+
+    /**
+     * 현재까지 읽은 헤더 필드 (detections 제외)
+     */
+    public AICallbackRequest getHeader() {
+        return header;
+    }
+
+    /**
+     * 최상위 videoId 값만 찾음 (detections 는 객체로 만들지 않고 건너뜀), 없으면 null
+     * 이 reader 로는 이후 nextBatch()를 호출하지 않음
+     */
+    public String readVideoId() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("AI 콜백 본문이 JSON 객체가 아닙니다");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("videoId".equals(field) && value != JsonToken.VALUE_NULL) {
+                return parser.getText();
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    /**
+     * 다음 탐지 결과 배치 (최대 batchSize개), 본문 끝이면 null
+     */
+    public List<AICallbackRequest.DetectionResult> nextBatch() throws IOException {
+        if (finished) return null;
+
+        if (!started) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("AI 콜백 본문이 JSON 객체가 아닙니다");
+            }
+            started = true;
+        }
+
+        if (inDetections) {
+            List<AICallbackRequest.DetectionResult> batch = readDetections();
+            if (!batch.isEmpty()) return batch;
+        }
+
+        // 다음 detections 배열이 나올 때까지 헤더 필드 읽기
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("detections".equals(field)) {
+                if (value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                inDetections = true;
+                List<AICallbackRequest.DetectionResult> batch = readDetections();
+                if (!batch.isEmpty()) return batch;
+                continue;
+            }
+
+            readHeaderField(field, value);
+        }
+
+        finished = true;
+        return null;
+    }
+
+    /**
+     * detections 배열에서 최대 batchSize개 읽기 (배열이 끝나면 inDetections = false)
+     */
+    private List<AICallbackRequest.DetectionResult> readDetections() throws IOException {
+        List<AICallbackRequest.DetectionResult> batch = new ArrayList<>(batchSize);
+
+        while (batch.size() < batchSize) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                inDetections = false;
+                break;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            batch.add(readDetection());
+        }
+        return batch;
+    }
+
+    private AICallbackRequest.DetectionResult readDetection() throws IOException {
+        AICallbackRequest.DetectionResult result = new AICallbackRequest.DetectionResult();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (value == JsonToken.VALUE_NULL) continue;
+
+            switch (field) {
+                case "frameNumber" -> result.setFrameNumber(parser.getIntValue());
+                case "classId" -> result.setClassId(parser.getIntValue());
+                case "label" -> result.setLabel(parser.getText());
+                case "confidence" -> result.setConfidence(parser.getFloatValue());
+                case "bbox" -> result.setBbox(readIntArray(value));
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    private List<Integer> readIntArray(JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<Integer> values = new ArrayList<>(4);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(parser.getValueAsInt());
+        }
+        return values;
+    }
+
+    private void readHeaderField(String field, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) return;
+
+        switch (field) {
+            case "videoId" -> header.setVideoId(parser.getText());
+            case "maskedUrl" -> header.setMaskedUrl(parser.getText());
+            case "frameCount" -> header.setFrameCount(parser.getIntValue());
+            case "processingTimeMs" -> header.setProcessingTimeMs(parser.getIntValue());
+            case "statistics" -> header.setStatistics(parser.readValueAs(AICallbackRequest.Statistics.class));
+            default -> parser.skipChildren();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -1,11 +1,13 @@
 package com.privacy.privacyplatform.external.ai.service;
 
 import com.privacy.privacyplatform.external.ai.dto.AIProcessRequest;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 
@@ -19,21 +21,23 @@ public class AIServerService {
     @Value("${ai.server.url}")
     private String aiServerUrl;
 
+    // 처리 요청 응답 대기 한도 (AIDispatcher lease 계산에도 사용)
+    @Getter
+    @Value("${ai.server.process-timeout-ms:30000}")
+    private long processTimeoutMs;
+
     /**
-     * ✅ AI 서버에 처리 요청 전송 (비동기 - 응답 안 기다림)
+     * AI 서버에 처리 요청 전송 (결과 처리 / 재시도는 호출하는 쪽 - AIDispatcher)
      */
-    public void sendProcessRequest(AIProcessRequest request) {
+    public Mono<Void> sendProcessRequest(AIProcessRequest request) {
         log.info("AI 서버에 요청 전송: videoId={}", request.getVideoId());
 
-        webClient.post()
+        return webClient.post()
                 .uri(aiServerUrl + "/api/process")
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(Void.class)
-                .timeout(Duration.ofSeconds(30))
-                .doOnSuccess(v -> log.info("AI 서버 요청 전송 성공: videoId={}", request.getVideoId()))
-                .doOnError(e -> log.error("AI 서버 요청 전송 실패: videoId={}", request.getVideoId(), e))
-                .subscribe();  // ✅ 응답 기다리지 않음!
+                .timeout(Duration.ofMillis(processTimeoutMs));
     }
 
     /**
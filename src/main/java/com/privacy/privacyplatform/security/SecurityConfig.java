@@ -2,6 +2,7 @@ package com.privacy.privacyplatform.security;
 
 import com.privacy.privacyplatform.auth.oauth2.CustomOAuth2UserService;
 import com.privacy.privacyplatform.auth.oauth2.OAuth2SuccessHandler;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -62,13 +63,18 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // long-poll / 스트리밍 응답의 비동기 디스패치 (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/oauth2/**",
                                 "/login/oauth2/**",
                                 "/api/videos/health",
                                 "/api/videos/callback",
-                                "/actuator/**",
+                                "/api/videos/callback/chunk",
+                                "/api/videos/callback/progress",
+                                "/actuator/health",
+                                "/actuator/health/**",
                                 "/ws/**",
                                 "/error"
                         ).permitAll()
@@ -1,6 +1,10 @@
 package com.privacy.privacyplatform.storage.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.privacy.privacyplatform.storage.dto.PresignedUploadUrl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -24,13 +28,34 @@ public class S3Service {
     private final S3Presigner s3Presigner;
     private final String bucketName;
 
+    // 다운로드 URL 서명 유효시간
+    private static final Duration DOWNLOAD_URL_LIFETIME = Duration.ofMinutes(60);
+
+    // S3 키 → Pre-signed Download URL (서명 만료 전에 캐시에서 먼저 빠지도록 TTL < 서명 유효시간)
+    private final Cache<String, String> downloadUrlCache;
+    private final Duration downloadUrlCacheTtl;
+
     public S3Service(
             S3Client s3Client,
             S3Presigner s3Presigner,
-            @Value("${aws.s3.bucket-name}") String bucketName) {
+            @Value("${aws.s3.bucket-name}") String bucketName,
+            @Value("${aws.s3.download-url-cache.ttl-minutes:45}") long cacheTtlMinutes,
+            @Value("${aws.s3.download-url-cache.max-size:10000}") long cacheMaxSize,
+            MeterRegistry meterRegistry) {
         this.s3Client = s3Client;
         this.s3Presigner = s3Presigner;
         this.bucketName = bucketName;
+
+        if (cacheTtlMinutes >= DOWNLOAD_URL_LIFETIME.toMinutes()) {
+            throw new IllegalStateException("다운로드 URL 캐시 TTL은 서명 유효시간(60분)보다 짧아야 합니다");
+        }
+        this.downloadUrlCacheTtl = Duration.ofMinutes(cacheTtlMinutes);
+        this.downloadUrlCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(downloadUrlCacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, downloadUrlCache, "s3.download-url");
     }
 
     /**
@@ -86,16 +111,28 @@ public class S3Service {
     }
 
     /**
-     * Pre-signed Download URL 생성 (클라이언트가 S3에서 직접 다운로드)
+     * Pre-signed Download URL 조회 (클라이언트가 S3에서 직접 다운로드)
+     * 캐시에 있으면 재서명하지 않음 - 캐시에서 꺼낸 URL도 최소 (60 - TTL)분은 유효
      */
     public String generatePresignedDownloadUrl(String s3Key) {
+        return downloadUrlCache.get(s3Key, this::presignDownloadUrl);
+    }
+
+    /**
+     * generatePresignedDownloadUrl 이 반환한 URL의 최소 남은 유효시간
+     */
+    public Duration getMinDownloadUrlValidity() {
+        return DOWNLOAD_URL_LIFETIME.minus(downloadUrlCacheTtl);
+    }
+
+    private String presignDownloadUrl(String s3Key) {
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(bucketName)
                 .key(s3Key)
                 .build();
 
         GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(60))
+                .signatureDuration(DOWNLOAD_URL_LIFETIME)
                 .getObjectRequest(getObjectRequest)
                 .build();
 
@@ -124,6 +161,7 @@ public class S3Service {
      * S3 파일 삭제
      */
     public void deleteFile(String s3Key) {
+        downloadUrlCache.invalidate(s3Key);
         try {
             s3Client.deleteObject(builder -> builder
                     .bucket(bucketName)
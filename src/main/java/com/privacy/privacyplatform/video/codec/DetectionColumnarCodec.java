@@ -0,0 +1,189 @@
+package com.privacy.privacyplatform.video.codec;
+
+import com.privacy.privacyplatform.external.ai.dto.AICallbackRequest;
+import com.privacy.privacyplatform.video.dto.response.VideoResultResponse;
+import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static com.privacy.privacyplatform.video.codec.VarInts.readVarint;
+import static com.privacy.privacyplatform.video.codec.VarInts.readZigzag;
+import static com.privacy.privacyplatform.video.codec.VarInts.writeVarint;
+import static com.privacy.privacyplatform.video.codec.VarInts.writeZigzag;
+
+/**
+ * 탐지 결과 컬럼 압축 포맷
+ *
+ * <pre>
+ * magic "DCOL" | version(1) | rowCount(varint)
+ * labels   : dictSize(varint) + [utf8 길이(varint) + bytes + objectType ordinal(1)]...
+ * nulls    : row마다 1 byte (bit0 classId, bit1 frame, bit2 bbox, bit3 confidence 가 null)
+ * frames   : 이전 frame과의 차이 (zigzag varint)
+ * classIds : zigzag varint
+ * labelIdx : 사전 인덱스 varint (0 = null label)
+ * bbox     : row마다 4개 zigzag varint [x1, x2, y1, y2]
+ * conf     : float32
+ * </pre>
+ * 전체를 deflate로 한 번 더 압축
+ */
+public final class DetectionColumnarCodec {
+
+    private static final int MAGIC = 0x44434F4C; // "DCOL"
+    private static final int VERSION = 1;
+
+    private static final int NULL_CLASS_ID = 1;
+    private static final int NULL_FRAME = 1 << 1;
+    private static final int NULL_BBOX = 1 << 2;
+    private static final int NULL_CONFIDENCE = 1 << 3;
+
+    private DetectionColumnarCodec() {
+    }
+
+    /**
+     * 탐지 결과 → 압축 blob
+     */
+    public static byte[] encode(List<AICallbackRequest.DetectionResult> items,
+                                Function<String, ObjectType> objectTypeResolver) {
+        // 라벨 사전 (0번은 null 예약)
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        int[] labelIdx = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            String label = items.get(i).getLabel();
+            labelIdx[i] = label == null ? 0 : dictionary.computeIfAbsent(label, k -> dictionary.size() + 1);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(items.size() * 8 + 64);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            writeVarint(out, items.size());
+
+            writeVarint(out, dictionary.size());
+            for (String label : dictionary.keySet()) {
+                byte[] utf8 = label.getBytes(StandardCharsets.UTF_8);
+                writeVarint(out, utf8.length);
+                out.write(utf8);
+                out.writeByte(objectTypeResolver.apply(label).ordinal());
+            }
+
+            for (AICallbackRequest.DetectionResult item : items) {
+                int flags = 0;
+                if (item.getClassId() == null) flags |= NULL_CLASS_ID;
+                if (item.getFrameNumber() == null) flags |= NULL_FRAME;
+                if (item.getBbox() == null || item.getBbox().size() < 4) flags |= NULL_BBOX;
+                if (item.getConfidence() == null) flags |= NULL_CONFIDENCE;
+                out.writeByte(flags);
+            }
+
+            int prevFrame = 0;
+            for (AICallbackRequest.DetectionResult item : items) {
+                int frame = item.getFrameNumber() != null ? item.getFrameNumber() : prevFrame;
+                writeZigzag(out, frame - prevFrame);
+                prevFrame = frame;
+            }
+
+            for (AICallbackRequest.DetectionResult item : items) {
+                writeZigzag(out, item.getClassId() != null ? item.getClassId() : 0);
+            }
+
+            for (int idx : labelIdx) {
+                writeVarint(out, idx);
+            }
+
+            for (AICallbackRequest.DetectionResult item : items) {
+                List<Integer> bbox = item.getBbox();
+                boolean present = bbox != null && bbox.size() >= 4;
+                for (int k = 0; k < 4; k++) {
+                    Integer v = present ? bbox.get(k) : null;
+                    writeZigzag(out, v != null ? v : 0);
+                }
+            }
+
+            for (AICallbackRequest.DetectionResult item : items) {
+                out.writeFloat(item.getConfidence() != null ? item.getConfidence() : 0.0f);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("탐지 결과 컬럼 인코딩 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 압축 blob → DetectionDto 목록 (id, timestampMs 는 저장하지 않으므로 null)
+     */
+    public static List<VideoResultResponse.DetectionDto> decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(payload)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("탐지 결과 컬럼 포맷이 아닙니다");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("지원하지 않는 컬럼 포맷 버전: " + version);
+            }
+            int rows = readVarint(in);
+
+            int dictSize = readVarint(in);
+            String[] labels = new String[dictSize + 1];
+            String[] objectTypes = new String[dictSize + 1];
+            objectTypes[0] = ObjectType.CUSTOM_OBJECT.name();
+            ObjectType[] types = ObjectType.values();
+            for (int i = 1; i <= dictSize; i++) {
+                byte[] utf8 = new byte[readVarint(in)];
+                in.readFully(utf8);
+                labels[i] = new String(utf8, StandardCharsets.UTF_8);
+                objectTypes[i] = types[in.readUnsignedByte()].name();
+            }
+
+            int[] flags = new int[rows];
+            for (int i = 0; i < rows; i++) flags[i] = in.readUnsignedByte();
+
+            int[] frames = new int[rows];
+            int frame = 0;
+            for (int i = 0; i < rows; i++) {
+                frame += readZigzag(in);
+                frames[i] = frame;
+            }
+
+            int[] classIds = new int[rows];
+            for (int i = 0; i < rows; i++) classIds[i] = readZigzag(in);
+
+            int[] labelIdx = new int[rows];
+            for (int i = 0; i < rows; i++) labelIdx[i] = readVarint(in);
+
+            int[] bbox = new int[rows * 4];
+            for (int i = 0; i < bbox.length; i++) bbox[i] = readZigzag(in);
+
+            List<VideoResultResponse.DetectionDto> result = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                float confidence = in.readFloat();
+                int f = flags[i];
+                result.add(VideoResultResponse.DetectionDto.builder()
+                        .classId((f & NULL_CLASS_ID) != 0 ? null : classIds[i])
+                        .label(labels[labelIdx[i]])
+                        .objectType(objectTypes[labelIdx[i]])
+                        .confidence((f & NULL_CONFIDENCE) != 0 ? null : confidence)
+                        .bbox((f & NULL_BBOX) != 0 ? null
+                                : List.of(bbox[i * 4], bbox[i * 4 + 1], bbox[i * 4 + 2], bbox[i * 4 + 3]))
+                        .frameNumber((f & NULL_FRAME) != 0 ? null : frames[i])
+                        .maskingApplied(true)
+                        .build());
+            }
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("탐지 결과 컬럼 디코딩 실패", e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.privacy.privacyplatform.video.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.privacy.privacyplatform.video.codec.VarInts.readVarint;
+import static com.privacy.privacyplatform.video.codec.VarInts.readZigzag;
+import static com.privacy.privacyplatform.video.codec.VarInts.writeVarint;
+import static com.privacy.privacyplatform.video.codec.VarInts.writeZigzag;
+
+/**
+ * 트랙 bbox 키프레임 포맷 + 선형 보간
+ *
+ * <pre>
+ * count(varint) | [frame 차이(varint), x1, x2, y1, y2 (직전 키프레임 대비 zigzag varint)]...
+ * </pre>
+ * 키프레임은 int[5] = {frame, x1, x2, y1, y2}, frame 오름차순
+ *
+ * 트랙 안에서 탐지되지 않은 프레임 구간 (gap) 포맷:
+ * <pre>
+ * count(varint) | [시작 - 직전 구간 끝(zigzag varint), 길이 - 1(varint)]...
+ * </pre>
+ * gap 은 int[2] = {from, to} (양 끝 포함), from 오름차순
+ */
+public final class TrackKeyframeCodec {
+
+    private TrackKeyframeCodec() {
+    }
+
+    public static byte[] pack(List<int[]> keyframes) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(keyframes.size() * 6 + 4);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeVarint(out, keyframes.size());
+            int[] prev = new int[5];
+            for (int[] key : keyframes) {
+                writeVarint(out, key[0] - prev[0]);
+                for (int k = 1; k < 5; k++) {
+                    writeZigzag(out, key[k] - prev[k]);
+                }
+                prev = key;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("트랙 키프레임 인코딩 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static List<int[]> unpack(byte[] packed) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(packed))) {
+            int count = readVarint(in);
+            List<int[]> keyframes = new ArrayList<>(count);
+            int[] prev = new int[5];
+            for (int i = 0; i < count; i++) {
+                int[] key = new int[5];
+                key[0] = prev[0] + readVarint(in);
+                for (int k = 1; k < 5; k++) {
+                    key[k] = prev[k] + readZigzag(in);
+                }
+                keyframes.add(key);
+                prev = key;
+            }
+            return keyframes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("트랙 키프레임 디코딩 실패", e);
+        }
+    }
+
+    public static byte[] packGaps(List<int[]> gaps) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(gaps.size() * 3 + 1);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeVarint(out, gaps.size());
+            int prevEnd = 0;
+            for (int[] gap : gaps) {
+                writeZigzag(out, gap[0] - prevEnd);
+                writeVarint(out, gap[1] - gap[0]);
+                prevEnd = gap[1];
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("트랙 gap 인코딩 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * gap 목록 (null 이면 빈 목록 - gap 이 없거나 기존 데이터)
+     */
+    public static List<int[]> unpackGaps(byte[] packed) {
+        if (packed == null) return List.of();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(packed))) {
+            int count = readVarint(in);
+            List<int[]> gaps = new ArrayList<>(count);
+            int prevEnd = 0;
+            for (int i = 0; i < count; i++) {
+                int from = prevEnd + readZigzag(in);
+                int to = from + readVarint(in);
+                gaps.add(new int[]{from, to});
+                prevEnd = to;
+            }
+            return gaps;
+        } catch (IOException e) {
+            throw new UncheckedIOException("트랙 gap 디코딩 실패", e);
+        }
+    }
+
+    /**
+     * frame 위치의 bbox [x1, x2, y1, y2] (키프레임 사이는 선형 보간, 범위 밖이면 null)
+     */
+    public static int[] interpolate(List<int[]> keyframes, int frame) {
+        if (keyframes.isEmpty()) return null;
+        int[] first = keyframes.get(0);
+        int[] last = keyframes.get(keyframes.size() - 1);
+        if (frame < first[0] || frame > last[0]) return null;
+
+        // frame 이하인 마지막 키프레임 (이진 탐색)
+        int lo = 0, hi = keyframes.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (keyframes.get(mid)[0] <= frame) lo = mid;
+            else hi = mid - 1;
+        }
+
+        int[] a = keyframes.get(lo);
+        if (a[0] == frame || lo == keyframes.size() - 1) {
+            return new int[]{a[1], a[2], a[3], a[4]};
+        }
+        int[] b = keyframes.get(lo + 1);
+        double t = (double) (frame - a[0]) / (b[0] - a[0]);
+        int[] bbox = new int[4];
+        for (int k = 0; k < 4; k++) {
+            bbox[k] = (int) Math.round(a[k + 1] + (b[k + 1] - a[k + 1]) * t);
+        }
+        return bbox;
+    }
+}
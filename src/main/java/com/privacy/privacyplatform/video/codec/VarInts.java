@@ -0,0 +1,41 @@
+package com.privacy.privacyplatform.video.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * varint / zigzag 인코딩 공통 유틸
+ */
+final class VarInts {
+
+    private VarInts() {
+    }
+
+    static void writeZigzag(DataOutput out, int value) throws IOException {
+        writeVarint(out, (value << 1) ^ (value >> 31));
+    }
+
+    static int readZigzag(DataInput in) throws IOException {
+        int v = readVarint(in);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    static void writeVarint(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarint(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("잘못된 varint");
+    }
+}
@@ -1,20 +1,55 @@
 package com.privacy.privacyplatform.video.controller;
 
-import com.privacy.privacyplatform.external.ai.dto.AICallbackRequest;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.privacy.privacyplatform.external.ai.dto.AICallbackChunkRequest;
+import com.privacy.privacyplatform.external.ai.dto.AICallbackChunkResponse;
+import com.privacy.privacyplatform.external.ai.dto.AIProgressRequest;
 import com.privacy.privacyplatform.user.User;
+import com.privacy.privacyplatform.video.dto.request.DetectionQueryRequest;
 import com.privacy.privacyplatform.video.dto.request.InitUploadRequest;
 import com.privacy.privacyplatform.video.dto.request.ProcessVideoRequest;
+import com.privacy.privacyplatform.video.dto.request.VideoStatusBatchRequest;
+import com.privacy.privacyplatform.video.dto.request.VideoUrlsRequest;
+import com.privacy.privacyplatform.video.dto.response.DetectionPageResponse;
+import com.privacy.privacyplatform.video.dto.response.DetectionTrackResponse;
 import com.privacy.privacyplatform.video.dto.response.InitUploadResponse;
+import com.privacy.privacyplatform.video.dto.response.VideoPageResponse;
 import com.privacy.privacyplatform.video.dto.response.VideoResultResponse;
+import com.privacy.privacyplatform.video.dto.response.VideoStatusBatchResponse;
 import com.privacy.privacyplatform.video.dto.response.VideoStatusResponse;
+import com.privacy.privacyplatform.video.dto.response.VideoUrlResponse;
+import com.privacy.privacyplatform.video.entity.enums.ProcessStatus;
+import com.privacy.privacyplatform.video.ingest.CallbackIngestQueue;
+import com.privacy.privacyplatform.video.resultcache.VideoResultCache;
+import com.privacy.privacyplatform.video.frameindex.FrameIndex;
+import com.privacy.privacyplatform.video.service.DetectionExportService;
+import com.privacy.privacyplatform.video.service.DetectionQueryService;
+import com.privacy.privacyplatform.video.service.FrameIndexService;
 import com.privacy.privacyplatform.video.service.VideoService;
+import com.privacy.privacyplatform.video.service.VideoUrlService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -22,7 +57,21 @@ import java.util.List;
 @RequiredArgsConstructor
 public class VideoController {
 
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    // 메시지 컨버터 순서와 같게 (Accept 가 같은 우선순위면 앞의 형식)
+    private static final List<MediaType> RESULT_MEDIA_TYPES =
+            List.of(MediaType.APPLICATION_JSON, SMILE, MediaType.APPLICATION_CBOR);
+
     private final VideoService videoService;
+    private final DetectionQueryService detectionQueryService;
+    private final DetectionExportService detectionExportService;
+    private final FrameIndexService frameIndexService;
+    private final VideoUrlService videoUrlService;
+    private final ObjectMapper objectMapper;
+    private final CallbackIngestQueue callbackIngestQueue;
+
+    @Value("${app.frame-index.max-window:300}")
+    private int maxFrameWindow;
 
     /**
      * 비디오 업로드 초기화 (인증 필요)
@@ -55,12 +104,55 @@ public class VideoController {
 
     /**
      *  새로 추가: AI 서버 콜백 (인증 불필요 - 내부 통신)
+     *  본문이 수백 MB까지 커질 수 있어 DTO 바인딩 대신 스트리밍으로 파싱
+     *  로컬 스풀에 기록한 뒤 202로 바로 응답하고, DB 반영은 워커가 비동기로 처리
+     *  밀린 콜백이 한도를 넘으면 503 (AI 서버가 재시도), 이미 반영된 재전송 콜백은 200
+     *  videoId 쿼리는 발송 시 콜백 URL에 붙여 보낸 값 (중복 판별용, 저장은 본문의 videoId 기준)
      */
     @PostMapping("/callback")
-    public ResponseEntity<Void> handleAiCallback(@RequestBody AICallbackRequest request) {
-        log.info("🤖 AI 콜백 수신: videoId={}", request.getVideoId());
-        videoService.handleAiCallback(request);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Void> handleAiCallback(
+            HttpServletRequest request,
+            @RequestParam(value = "videoId", required = false) String videoId,
+            @RequestHeader(value = "X-Callback-Id", required = false) String callbackId) throws IOException {
+        log.info("🤖 AI 콜백 수신: contentLength={}, videoId={}, callbackId={}",
+                request.getContentLengthLong(), videoId, callbackId);
+
+        CallbackIngestQueue.EnqueueResult result =
+                callbackIngestQueue.enqueue(request.getInputStream(), videoId, callbackId);
+        switch (result) {
+            case DUPLICATE:
+                log.info("🔂 이미 반영된 콜백 - 재처리 생략: callbackId={}", callbackId);
+                return ResponseEntity.ok().build();
+            case REJECTED:
+                log.warn("⏳ 콜백 스풀 적체 - 503 응답");
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "30")
+                        .build();
+            default:
+                return ResponseEntity.accepted().build();
+        }
+    }
+
+    /**
+     * AI 서버 청크 콜백 (인증 불필요 - 내부 통신)
+     * 프레임 구간별 탐지 결과를 sequence 단위로 받고, last 청크까지 모이면 완료 처리
+     */
+    @PostMapping("/callback/chunk")
+    public ResponseEntity<AICallbackChunkResponse> handleAiCallbackChunk(@RequestBody AICallbackChunkRequest request) {
+        log.info("🧩 AI 청크 콜백 수신: videoId={}, sequence={}", request.getVideoId(), request.getSequence());
+        AICallbackChunkResponse response = videoService.handleAiCallbackChunk(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * AI 서버 진행률 알림 (인증 불필요 - 내부 통신)
+     * /topic/videos/{videoId} 로 발행 (비디오별로 짧은 주기 안의 마지막 값만)
+     */
+    @PostMapping("/callback/progress")
+    public ResponseEntity<Void> handleAiProgress(@RequestBody AIProgressRequest request) {
+        log.debug("📶 AI 진행률 수신: videoId={}, percentage={}", request.getVideoId(), request.getPercentage());
+        videoService.handleAiProgress(request);
+        return ResponseEntity.accepted().build();
     }
 
     /**
@@ -72,34 +164,226 @@ public class VideoController {
             Authentication authentication) {
         User user = (User) authentication.getPrincipal();
         log.info("📡 상태 조회: videoId={}, userId={}", videoId, user.getUserId());
-        VideoStatusResponse response = videoService.getVideoStatus(videoId, user.getUserId());
+        VideoStatusResponse response = videoService.getVideoStatus(videoId, user.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 상태 변경 대기 (long-poll, 상태/진행률이 바뀌거나 타임아웃이 나면 응답)
+     * 예: GET /api/videos/{videoId}/status/wait?knownStatus=PROCESSING&knownProgress=40
+     */
+    @GetMapping("/{videoId}/status/wait")
+    public DeferredResult<VideoStatusResponse> waitForStatusChange(
+            @PathVariable String videoId,
+            @RequestParam(required = false) ProcessStatus knownStatus,
+            @RequestParam(required = false) Integer knownProgress,
+            Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        log.debug("⏳ 상태 변경 대기: videoId={}, knownStatus={}, userId={}", videoId, knownStatus, user.getUserId());
+        return videoService.waitForStatusChange(videoId, user.getId(), knownStatus, knownProgress);
+    }
+
+    /**
+     * 일괄 상태 조회 (목록 화면 폴링용, videoIds 가 비어 있으면 처리 중인 내 비디오 전부)
+     * 예: POST /api/videos/statuses {"videoIds": [...], "since": "<이전 응답의 changeToken>"}
+     */
+    @PostMapping("/statuses")
+    public ResponseEntity<VideoStatusBatchResponse> getVideoStatuses(
+            @RequestBody VideoStatusBatchRequest request,
+            Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        log.debug("📡 일괄 상태 조회: count={}, since={}, userId={}",
+                request.getVideoIds() != null ? request.getVideoIds().size() : 0, request.getSince(), user.getUserId());
+
+        VideoStatusBatchResponse response = videoService.getVideoStatuses(user.getId(), request);
         return ResponseEntity.ok(response);
     }
 
     /**
      * 비디오 결과 조회 (인증 필요)
+     * 완료된 비디오는 ETag를 붙이고, If-None-Match가 같으면 detections를 읽지 않고 304
+     * JSON 요청은 결과 캐시에 있으면 DB 조회/직렬화 없이 캐시된 본문으로 응답
      */
     @GetMapping("/{videoId}")
-    public ResponseEntity<VideoResultResponse> getVideoResult(
+    public ResponseEntity<?> getVideoResult(
             @PathVariable String videoId,
-            Authentication authentication) {
+            Authentication authentication,
+            WebRequest webRequest) {
 
         User user = (User) authentication.getPrincipal();
         log.info("📊 비디오 조회: videoId={}, userId={}", videoId, user.getUserId());
 
-        VideoResultResponse response = videoService.getVideoResult(videoId, user.getUserId());
+        if (representation(webRequest).isEmpty()) {
+            VideoResultCache.Entry cached = videoService.getCachedVideoResult(videoId, user.getId());
+            if (cached != null) {
+                String etag = videoService.getResultETag(videoId, cached, "result");
+                if (webRequest.checkNotModified(etag)) {
+                    return null;
+                }
+                return withETag(etag).contentType(MediaType.APPLICATION_JSON).body(cached.getJson());
+            }
+        }
+
+        String etag = videoService.getResultETag(videoId, user.getId(), "result" + representation(webRequest), true);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        VideoResultResponse response = videoService.getVideoResult(videoId, user.getId());
+        return withETag(etag).body(response);
+    }
+
+    /**
+     * 탐지 결과 조건 조회 (프레임 구간 / 객체 종류 / classId / 최소 confidence, frame 순 페이지)
+     * 예: GET /api/videos/{videoId}/detections?fromFrame=300&toFrame=390&objectType=FACE&size=500
+     */
+    @GetMapping("/{videoId}/detections")
+    public ResponseEntity<DetectionPageResponse> queryDetections(
+            @PathVariable String videoId,
+            @ModelAttribute DetectionQueryRequest query,
+            Authentication authentication) {
+
+        User user = (User) authentication.getPrincipal();
+        log.info("🔎 탐지 결과 조회: videoId={}, frames=[{}, {}], userId={}",
+                videoId, query.getFromFrame(), query.getToFrame(), user.getUserId());
+
+        DetectionPageResponse response = detectionQueryService.queryDetections(videoId, user.getId(), query);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * 내 비디오 목록 조회
+     * 탐지 결과 전체 내보내기 (NDJSON 스트리밍, 탐지 수와 관계없이 메모리 일정)
+     * 예: GET /api/videos/{videoId}/detections/export
+     */
+    @GetMapping("/{videoId}/detections/export")
+    public ResponseEntity<StreamingResponseBody> exportDetections(
+            @PathVariable String videoId,
+            Authentication authentication) {
+
+        User user = (User) authentication.getPrincipal();
+        log.info("📦 탐지 결과 내보내기: videoId={}, userId={}", videoId, user.getUserId());
+
+        StreamingResponseBody body = detectionExportService.prepareExport(videoId, user.getId());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + videoId + "-detections.ndjson\"")
+                .body(body);
+    }
+
+    /**
+     * 프레임 구간 탐지 결과 (플레이어 seek 용, 캐시된 프레임 인덱스에서 바로 JSON 스트리밍)
+     * 예: GET /api/videos/{videoId}/frames?from=300&count=30
+     */
+    @GetMapping("/{videoId}/frames")
+    public void getFrameWindow(
+            @PathVariable String videoId,
+            @RequestParam int from,
+            @RequestParam(defaultValue = "30") int count,
+            Authentication authentication,
+            HttpServletResponse response) throws IOException {
+
+        User user = (User) authentication.getPrincipal();
+        log.debug("🎞️ 프레임 구간 조회: videoId={}, from={}, count={}", videoId, from, count);
+
+        int window = Math.min(Math.max(count, 1), maxFrameWindow);
+        FrameIndex index = frameIndexService.getFrameIndex(videoId, user.getId());
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            gen.writeStartObject();
+            gen.writeStringField("videoId", videoId);
+            gen.writeNumberField("fromFrame", from);
+            gen.writeNumberField("toFrame", from + window - 1);
+            index.writeWindow(gen, from, from + window - 1);
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * 탐지 통계 조회 (detections 없이 통계만)
+     */
+    @GetMapping("/{videoId}/statistics")
+    public ResponseEntity<VideoResultResponse.DetectionStatistics> getVideoStatistics(
+            @PathVariable String videoId,
+            Authentication authentication,
+            WebRequest webRequest) {
+
+        User user = (User) authentication.getPrincipal();
+        log.info("📈 탐지 통계 조회: videoId={}, userId={}", videoId, user.getUserId());
+
+        String etag = videoService.getResultETag(videoId, user.getId(), "statistics" + representation(webRequest), false);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        VideoResultResponse.DetectionStatistics response = videoService.getVideoStatistics(videoId, user.getId());
+        return withETag(etag).body(response);
+    }
+
+    /**
+     * 객체 트랙 조회 (TRACKS 저장 모드 비디오)
+     */
+    @GetMapping("/{videoId}/tracks")
+    public ResponseEntity<DetectionTrackResponse> getVideoTracks(
+            @PathVariable String videoId,
+            Authentication authentication,
+            WebRequest webRequest) {
+
+        User user = (User) authentication.getPrincipal();
+        log.info("🛤️ 트랙 조회: videoId={}, userId={}", videoId, user.getUserId());
+
+        String etag = videoService.getResultETag(videoId, user.getId(), "tracks" + representation(webRequest), false);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        DetectionTrackResponse response = videoService.getVideoTracks(videoId, user.getId());
+        return withETag(etag).body(response);
+    }
+
+    /**
+     * 내 비디오 목록 페이지 조회 (키셋 페이지네이션)
+     * 예: GET /api/videos?status=COMPLETED&size=20&cursor=...&include=urls,detections
+     */
+    @GetMapping
+    public ResponseEntity<VideoPageResponse> getMyVideoPage(
+            @RequestParam(required = false) ProcessStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Set<String> include,
+            Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        log.info("📋 내 비디오 목록 페이지 조회: userId={}, status={}, size={}", user.getUserId(), status, size);
+
+        VideoPageResponse response = videoService.getMyVideoPage(user.getId(), status, cursor, size, include);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 다운로드 URL 일괄 조회 (목록 화면에 보이는 비디오들을 한 번에 서명)
+     * 예: POST /api/videos/urls {"videoIds": ["...", "..."]}
+     */
+    @PostMapping("/urls")
+    public ResponseEntity<List<VideoUrlResponse>> getDownloadUrls(
+            @RequestBody VideoUrlsRequest request,
+            Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        log.info("🔗 다운로드 URL 일괄 조회: count={}, userId={}",
+                request.getVideoIds() != null ? request.getVideoIds().size() : 0, user.getUserId());
+
+        List<VideoUrlResponse> response = videoUrlService.getDownloadUrls(user.getId(), request.getVideoIds());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 내 비디오 목록 전체 조회 (detections 포함, 페이지 조회로 대체 예정)
      */
     @GetMapping("/my-videos")
     public ResponseEntity<List<VideoResultResponse>> getMyVideos(Authentication authentication) {
         User user = (User) authentication.getPrincipal();
         log.info("📋 내 비디오 목록 조회: userId={}", user.getUserId());
 
-        List<VideoResultResponse> videos = videoService.getMyVideos(user.getUserId());
+        List<VideoResultResponse> videos = videoService.getMyVideos(user.getId());
         return ResponseEntity.ok(videos);
     }
 
@@ -114,7 +398,7 @@ public class VideoController {
         User user = (User) authentication.getPrincipal();
         log.info("🗑️ 비디오 삭제: videoId={}, userId={}", videoId, user.getUserId());
 
-        videoService.deleteVideo(videoId, user.getUserId());
+        videoService.deleteVideo(videoId, user.getId());
         return ResponseEntity.ok().build();
     }
 
@@ -125,4 +409,40 @@ public class VideoController {
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Video Service OK");
     }
+
+    // 완료된 결과: 사용자별 응답이라 private, 재사용 전에 항상 ETag로 재검증
+    private ResponseEntity.BodyBuilder withETag(String etag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (etag != null) {
+            builder.eTag(etag).cacheControl(CacheControl.noCache().cachePrivate());
+        }
+        return builder;
+    }
+
+    // 응답 포맷(JSON / Smile / CBOR)마다 본문이 다르므로 ETag도 구분
+    // Spring MVC 와 같은 방식으로 협상: Accept 와 호환되는 형식을 q값/구체성 순으로 정렬해 첫 번째 선택
+    private String representation(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) return "";
+
+        List<MediaType> compatible = new ArrayList<>();
+        try {
+            for (MediaType requested : MediaType.parseMediaTypes(accept)) {
+                for (MediaType producible : RESULT_MEDIA_TYPES) {
+                    if (requested.isCompatibleWith(producible)) {
+                        compatible.add(producible.copyQualityValue(requested));
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return "";
+        }
+        if (compatible.isEmpty()) return "";
+
+        MimeTypeUtils.sortBySpecificity(compatible);
+        MediaType negotiated = compatible.get(0);
+        if (negotiated.isCompatibleWith(SMILE)) return "-smile";
+        if (negotiated.isCompatibleWith(MediaType.APPLICATION_CBOR)) return "-cbor";
+        return "";
+    }
 }
\ No newline at end of file
@@ -0,0 +1,240 @@
+package com.privacy.privacyplatform.video.dispatch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.privacy.privacyplatform.external.ai.dto.AIProcessRequest;
+import com.privacy.privacyplatform.external.ai.service.AIServerService;
+import com.privacy.privacyplatform.storage.service.S3Service;
+import com.privacy.privacyplatform.video.repository.AIDispatchJdbcRepository;
+import com.privacy.privacyplatform.video.repository.AIDispatchRow;
+import com.privacy.privacyplatform.video.service.VideoService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 서버 처리 요청 발송 (ai_dispatch_outbox)
+ * - 주기마다 batch-size 개까지 가져와서 concurrency 개씩 동시에 발송 (AI 서버로 가는 속도 상한)
+ * - 발송 결과 DB 기록은 응답이 올 때마다 전용 스레드(concurrency 개)에서 (WebClient 이벤트 루프를 막지 않음)
+ * - lease 는 배치 전체가 최대로 걸리는 시간보다 길어야 함 (아니면 발송 중인 행을 다른 노드가 다시 가져감)
+ * - 실패하면 지수 backoff 로 재시도, 한도를 넘으면 비디오를 FAILED 로 바꿈
+ * - outbox 기록부터 AI 서버 수신까지 걸린 시간을 ai.dispatch.latency 로 기록
+ */
+@Slf4j
+@Component
+public class AIDispatcher {
+
+    private static final Duration LEASE_MARGIN = Duration.ofSeconds(30);
+
+    private final AIDispatchJdbcRepository dispatchRepository;
+    private final AIServerService aiServerService;
+    private final S3Service s3Service;
+    private final VideoService videoService;
+    private final ObjectMapper objectMapper;
+
+    private final String callbackUrl;
+    private final int batchSize;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final ExecutorService outcomeExecutor;
+    private final Scheduler outcomeScheduler;
+
+    private final Timer latencyTimer;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    public AIDispatcher(
+            AIDispatchJdbcRepository dispatchRepository,
+            AIServerService aiServerService,
+            S3Service s3Service,
+            VideoService videoService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.callback-url:https://api.safe-masking.cloud/api/videos/callback}") String callbackUrl,
+            @Value("${app.ai-dispatch.batch-size:20}") int batchSize,
+            @Value("${app.ai-dispatch.concurrency:4}") int concurrency,
+            @Value("${app.ai-dispatch.max-attempts:6}") int maxAttempts,
+            @Value("${app.ai-dispatch.backoff-ms:2000}") long backoffMs,
+            @Value("${app.ai-dispatch.max-backoff-ms:300000}") long maxBackoffMs,
+            @Value("${app.ai-dispatch.lease-seconds:300}") long leaseSeconds) {
+        this.dispatchRepository = dispatchRepository;
+        this.aiServerService = aiServerService;
+        this.s3Service = s3Service;
+        this.videoService = videoService;
+        this.objectMapper = objectMapper;
+        this.callbackUrl = callbackUrl;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(backoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+
+        // 배치 하나가 최대로 걸리는 시간 = 순차 라운드 수 x 요청 타임아웃 (+ 결과 기록 / presigned URL 생성 여유)
+        long rounds = (batchSize + concurrency - 1) / concurrency;
+        Duration worstCase = Duration.ofMillis(rounds * aiServerService.getProcessTimeoutMs()).plus(LEASE_MARGIN);
+        if (lease.compareTo(worstCase) <= 0) {
+            throw new IllegalStateException("app.ai-dispatch.lease-seconds(" + leaseSeconds + ")는 "
+                    + worstCase.toSeconds() + "초보다 커야 합니다 (batch-size=" + batchSize
+                    + ", concurrency=" + concurrency + ", timeout=" + aiServerService.getProcessTimeoutMs() + "ms)");
+        }
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.outcomeExecutor = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread t = new Thread(r, "ai-dispatch-outcome-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.outcomeScheduler = Schedulers.fromExecutorService(outcomeExecutor);
+
+        this.latencyTimer = Timer.builder("ai.dispatch.latency")
+                .description("outbox 기록부터 AI 서버 수신까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("ai.dispatch.attempts").tag("result", "sent").register(meterRegistry);
+        this.retryCounter = Counter.builder("ai.dispatch.attempts").tag("result", "retry").register(meterRegistry);
+        this.failedCounter = Counter.builder("ai.dispatch.attempts").tag("result", "failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.ai-dispatch.poll-interval-ms:1000}")
+    void dispatch() {
+        List<AIDispatchRow> rows;
+        try {
+            rows = dispatchRepository.claim(batchSize, LocalDateTime.now().plus(lease));
+        } catch (Exception e) {
+            log.warn("AI 발송 outbox 조회 실패: {}", e.getMessage());
+            return;
+        }
+        if (rows.isEmpty()) return;
+
+        log.debug("AI 발송: {}건", rows.size());
+
+        // 이벤트 루프(reactor-netty)에서는 응답만 받고, 결과 기록(JDBC / JPA)은 outcome 스레드에서 응답마다 바로
+        // (배치가 끝날 때까지 기다렸다 기록하면 앞쪽 행의 결과가 lease 를 넘겨서 남을 수 있음)
+        List<Mono<Outcome>> sends = new ArrayList<>(rows.size());
+        for (AIDispatchRow row : rows) {
+            try {
+                sends.add(send(row, buildRequest(row)));
+            } catch (Exception e) {
+                record(new Outcome(row, e, LocalDateTime.now()));
+            }
+        }
+
+        Flux.fromIterable(sends)
+                .flatMap(send -> send.publishOn(outcomeScheduler).doOnNext(this::record), concurrency)
+                .then()
+                .block();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        outcomeExecutor.shutdown();
+        if (!outcomeExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            outcomeExecutor.shutdownNow();
+        }
+    }
+
+    private void record(Outcome outcome) {
+        if (outcome.error() == null) {
+            onSuccess(outcome.row(), outcome.completedAt());
+        } else {
+            onFailure(outcome.row(), outcome.error());
+        }
+    }
+
+    private Mono<Outcome> send(AIDispatchRow row, AIProcessRequest request) {
+        return aiServerService.sendProcessRequest(request)
+                .then(Mono.fromCallable(() -> new Outcome(row, null, LocalDateTime.now())))
+                .onErrorResume(e -> Mono.just(new Outcome(row, e, LocalDateTime.now())));
+    }
+
+    // 발송 결과 (error == null 이면 성공, completedAt = 응답 받은 시각)
+    private record Outcome(AIDispatchRow row, Throwable error, LocalDateTime completedAt) {}
+
+    private AIProcessRequest buildRequest(AIDispatchRow row) throws Exception {
+        // presigned URL은 발송할 때마다 새로 만듦 (재시도가 길어져도 만료되지 않도록)
+        return AIProcessRequest.builder()
+                .videoId(row.getVideoId())
+                .downloadUrl(s3Service.generatePresignedDownloadUrl(row.getOriginalKey()))
+                .uploadUrl(s3Service.generatePresignedUploadUrlWithKey(row.getProcessedKey(), "video/mp4").getUrl())
+                // videoId를 붙여 두면 재전송 콜백을 본문을 받기 전에 판별할 수 있음
+                .callbackUrl(UriComponentsBuilder.fromUriString(callbackUrl)
+                        .queryParam("videoId", row.getVideoId())
+                        .encode()
+                        .toUriString())
+                .maskingOptions(objectMapper.readValue(row.getMaskingOptions(), AIProcessRequest.MaskingOptions.class))
+                .build();
+    }
+
+    private void onSuccess(AIDispatchRow row, LocalDateTime completedAt) {
+        latencyTimer.record(Duration.between(row.getCreatedAt(), completedAt));
+        sentCounter.increment();
+        log.info("AI 서버 요청 전송 성공: videoId={}, attempts={}", row.getVideoId(), row.getAttempts());
+        try {
+            if (!dispatchRepository.markSent(row)) {
+                logIgnored(row);
+            }
+        } catch (Exception e) {
+            // 결과를 못 남기면 lease 가 지난 뒤 다시 발송됨
+            log.error("AI 발송 결과 기록 실패: videoId={}", row.getVideoId(), e);
+        }
+    }
+
+    // lease 가 지나 다른 노드가 다시 가져갔거나 재처리로 대체된 행 - 그쪽 결과가 기준
+    private void logIgnored(AIDispatchRow row) {
+        log.info("AI 발송 결과 무시 (다시 가져갔거나 대체된 행): videoId={}, attempts={}",
+                row.getVideoId(), row.getAttempts());
+    }
+
+    private void onFailure(AIDispatchRow row, Throwable e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        try {
+            if (row.getAttempts() >= maxAttempts) {
+                if (!dispatchRepository.markFailed(row, error)) {
+                    logIgnored(row);
+                    return;
+                }
+                videoService.markDispatchFailed(row.getVideoId());
+                failedCounter.increment();
+                log.error("❌ AI 서버 요청 포기: videoId={}, attempts={}, error={}",
+                        row.getVideoId(), row.getAttempts(), error);
+                return;
+            }
+
+            Duration backoff = baseBackoff.multipliedBy(1L << Math.min(row.getAttempts() - 1, 20));
+            if (backoff.compareTo(maxBackoff) > 0) backoff = maxBackoff;
+            if (!dispatchRepository.reschedule(row, LocalDateTime.now().plus(backoff), error)) {
+                logIgnored(row);
+                return;
+            }
+            retryCounter.increment();
+            log.warn("AI 서버 요청 실패 ({}/{}), {}ms 후 재시도: videoId={}, error={}",
+                    row.getAttempts(), maxAttempts, backoff.toMillis(), row.getVideoId(), error);
+        } catch (Exception ex) {
+            // 결과를 못 남기면 lease 가 지난 뒤 다시 발송됨
+            log.error("AI 발송 결과 기록 실패: videoId={}", row.getVideoId(), ex);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.privacy.privacyplatform.video.dto.request;
+
+import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 탐지 결과 조회 조건 (모든 필드 선택, null 이면 조건 없음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DetectionQueryRequest {
+    private Integer fromFrame;
+    private Integer toFrame;
+    private ObjectType objectType;
+    private Integer classId;
+    private Float minConfidence;
+
+    // 이전 응답의 nextCursor
+    private String cursor;
+    private Integer size;
+}
@@ -0,0 +1,23 @@
+package com.privacy.privacyplatform.video.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 상태 조회 요청
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoStatusBatchRequest {
+    // 조회할 비디오 (비어 있으면 처리 중인 내 비디오 전부)
+    private List<String> videoIds;
+
+    // 이전 응답의 changeToken (이후 바뀐 비디오만 반환)
+    private String since;
+}
@@ -0,0 +1,19 @@
+package com.privacy.privacyplatform.video.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다운로드 URL 일괄 조회 요청 (화면에 보이는 비디오들)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoUrlsRequest {
+    private List<String> videoIds;
+}
@@ -0,0 +1,24 @@
+package com.privacy.privacyplatform.video.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 탐지 결과 페이지 (frame 순)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DetectionPageResponse {
+    private String videoId;
+    private List<VideoResultResponse.DetectionDto> items;
+
+    // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,40 @@
+package com.privacy.privacyplatform.video.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DetectionTrackResponse {
+
+    private String videoId;
+    private Integer frameCount;
+    private List<TrackDto> tracks;
+
+    /**
+     * 객체 트랙 DTO
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TrackDto {
+        private Long id;
+        private Integer classId;
+        private String label;
+        private String objectType;
+        private Integer startFrame;
+        private Integer endFrame;
+        private Integer detectionCount;
+        private Float avgConfidence;
+        private Float maxConfidence;
+        private List<List<Integer>> keyframes;  // [frame, x1, x2, y1, y2], 사이 프레임은 선형 보간
+        private List<List<Integer>> gaps;       // [from, to] 탐지되지 않은 프레임 구간 (보간하지 않음)
+    }
+}
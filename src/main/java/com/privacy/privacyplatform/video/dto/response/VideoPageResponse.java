@@ -0,0 +1,24 @@
+package com.privacy.privacyplatform.video.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 비디오 목록 페이지 (키셋 페이지네이션)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoPageResponse {
+    // detections / 다운로드 URL은 include 요청 시에만 채움
+    private List<VideoResultResponse> items;
+
+    // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+}
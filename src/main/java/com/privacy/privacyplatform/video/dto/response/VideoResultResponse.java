@@ -74,5 +74,14 @@ public class VideoResultResponse {
         private Long customObjectCount;
 
         private Float averageConfidence;
+
+        // 수집 시점에 계산된 통계 (기존 데이터는 null)
+        private Long faceDetections;
+        private Long licensePlateDetections;
+        private Long customObjectDetections;
+        private Float minConfidence;
+        private Float maxConfidence;
+        private List<Long> confidenceHistogram;  // 0.1 간격 10구간
+        private Integer framesWithDetections;
     }
 }
\ No newline at end of file
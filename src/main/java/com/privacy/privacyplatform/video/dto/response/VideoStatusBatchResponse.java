@@ -0,0 +1,23 @@
+package com.privacy.privacyplatform.video.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 상태 조회 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoStatusBatchResponse {
+    // since 이후 바뀐 비디오만 (since 가 없으면 전부)
+    private List<VideoStatusResponse> statuses;
+
+    // 다음 요청의 since 로 전달
+    private String changeToken;
+}
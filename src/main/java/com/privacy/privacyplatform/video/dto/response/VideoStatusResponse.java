@@ -14,4 +14,8 @@ public class VideoStatusResponse {
     private String videoId;
     private ProcessStatus status;
     private String message;
+
+    // 청크 콜백 기반 부분 진행 상황 (알 수 없으면 null)
+    private Integer processedFrames;
+    private Integer progress;
 }
\ No newline at end of file
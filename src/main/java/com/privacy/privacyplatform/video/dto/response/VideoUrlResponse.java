@@ -0,0 +1,16 @@
+package com.privacy.privacyplatform.video.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoUrlResponse {
+    private String videoId;
+    private String originalDownloadUrl; // Pre-signed Download URL (원본, 업로드 전이면 null)
+    private String processedDownloadUrl; // Pre-signed Download URL (처리 결과, 처리 시작 전이면 null)
+}
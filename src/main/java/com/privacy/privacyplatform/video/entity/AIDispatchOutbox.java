@@ -0,0 +1,70 @@
+package com.privacy.privacyplatform.video.entity;
+
+import com.privacy.privacyplatform.video.entity.enums.DispatchStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 서버 처리 요청 outbox (상태 변경과 같은 트랜잭션에 기록, AIDispatcher 가 커밋 후 발송)
+ * presigned URL은 만료되므로 저장하지 않고 발송할 때 S3 키로 새로 만듦
+ */
+@Entity
+@Table(name = "ai_dispatch_outbox",
+        indexes = @Index(name = "idx_ai_dispatch_outbox_status_next", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AIDispatchOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "video_id", nullable = false)
+    private Video video;
+
+    @Column(name = "original_key", nullable = false, length = 500)
+    private String originalKey;
+
+    @Column(name = "processed_key", nullable = false, length = 500)
+    private String processedKey;
+
+    // AIProcessRequest.MaskingOptions JSON
+    @Column(name = "masking_options", nullable = false, columnDefinition = "TEXT")
+    private String maskingOptions;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private DispatchStatus status = DispatchStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // 다음 발송 시각 (발송 중에는 lease 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+}
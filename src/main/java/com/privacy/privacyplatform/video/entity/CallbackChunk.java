@@ -0,0 +1,49 @@
+package com.privacy.privacyplatform.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "callback_chunks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_callback_chunks_video_sequence",
+                columnNames = {"video_id", "sequence_no"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CallbackChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "video_id", nullable = false)
+    private Video video;
+
+    @Column(name = "sequence_no", nullable = false)
+    private Integer sequence;
+
+    @Column(name = "frame_start")
+    private Integer frameStart;
+
+    @Column(name = "frame_end")
+    private Integer frameEnd;
+
+    @Column(name = "detection_count", nullable = false)
+    private Integer detectionCount;
+
+    @Column(name = "last_chunk", nullable = false)
+    private Boolean lastChunk;
+
+    @Column(name = "received_at", nullable = false, updatable = false)
+    private LocalDateTime receivedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.receivedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,44 @@
+package com.privacy.privacyplatform.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반영 완료된 AI 콜백 기록 (재전송된 콜백 중복 제거용)
+ */
+@Entity
+@Table(name = "callback_receipts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_callback_receipts_dedupe_key",
+                columnNames = {"dedupe_key"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CallbackReceipt {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "video_id", nullable = false)
+    private Video video;
+
+    // "<videoId>:id:<X-Callback-Id>" 또는 "<videoId>:sha256:<본문 해시>"
+    @Column(name = "dedupe_key", nullable = false, length = 255)
+    private String dedupeKey;
+
+    @Column(name = "detection_count")
+    private Integer detectionCount;
+
+    @Column(name = "received_at", nullable = false, updatable = false)
+    private LocalDateTime receivedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.receivedAt = LocalDateTime.now();
+    }
+}
@@ -5,9 +5,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
-@Table(name = "detections")
+@Table(name = "detections",
+        indexes = @Index(name = "idx_detections_video_frame", columnList = "video_id, frame_number"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,11 +38,21 @@ public class Detection {
     @Column(name = "object_type", nullable = false, length = 30)
     private ObjectType objectType;
 
-    @Column(name = "confidence", nullable = false)
+    @Column(name = "confidence")
     private Float confidence;
 
-    @Column(name = "bounding_box", columnDefinition = "TEXT")
-    private String boundingBox;  // JSON: [x1, x2, y1, y2]
+    // bbox: [x1, x2, y1, y2] (기존 bounding_box JSON 컬럼은 DetectionBboxMigration이 이관)
+    @Column(name = "bbox_x1")
+    private Integer bboxX1;
+
+    @Column(name = "bbox_x2")
+    private Integer bboxX2;
+
+    @Column(name = "bbox_y1")
+    private Integer bboxY1;
+
+    @Column(name = "bbox_y2")
+    private Integer bboxY2;
 
     @Column(name = "frame_number")
     private Integer frameNumber;
@@ -55,6 +67,22 @@ public class Detection {
     @Column(name = "detected_at", nullable = false, updatable = false)
     private LocalDateTime detectedAt;
 
+    /**
+     * [x1, x2, y1, y2] 형태로 반환 (값이 없으면 null)
+     */
+    public List<Integer> getBbox() {
+        if (bboxX1 == null || bboxX2 == null || bboxY1 == null || bboxY2 == null) return null;
+        return List.of(bboxX1, bboxX2, bboxY1, bboxY2);
+    }
+
+    public void setBbox(List<Integer> bbox) {
+        boolean present = bbox != null && bbox.size() >= 4;
+        this.bboxX1 = present ? bbox.get(0) : null;
+        this.bboxX2 = present ? bbox.get(1) : null;
+        this.bboxY1 = present ? bbox.get(2) : null;
+        this.bboxY2 = present ? bbox.get(3) : null;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.detectedAt = LocalDateTime.now();
@@ -0,0 +1,50 @@
+package com.privacy.privacyplatform.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * COLUMNAR 저장 모드의 탐지 결과 구간 (여러 탐지를 하나의 압축 blob으로 보관)
+ */
+@Entity
+@Table(name = "detection_segments",
+        indexes = @Index(name = "idx_detection_segments_video_frame", columnList = "video_id, frame_start"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DetectionSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "video_id", nullable = false)
+    private Video video;
+
+    @Column(name = "frame_start")
+    private Integer frameStart;
+
+    @Column(name = "frame_end")
+    private Integer frameEnd;
+
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount;
+
+    // DetectionColumnarCodec 포맷 (deflate 압축)
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,120 @@
+package com.privacy.privacyplatform.video.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 수집 시점에 계산해 두는 탐지 결과 통계 (조회 시 detections 테이블을 읽지 않음)
+ * 청크 콜백은 여러 번 나눠서 들어오므로 모든 값은 누적 가능한 형태로 저장
+ * - framesWithDetections 는 청크별 frame 수의 합이라 청크 프레임 구간이 서로 겹치지 않아야 정확함
+ *   (구간을 보낸 청크는 수신 시 겹침/구간 밖 탐지를 거부, 재처리 시에는 통계를 비우고 다시 누적)
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+public class DetectionStats {
+
+    public static final int HISTOGRAM_BINS = 10;
+
+    @Column(name = "face_detections")
+    private Long faceDetections;
+
+    @Column(name = "plate_detections")
+    private Long plateDetections;
+
+    @Column(name = "custom_detections")
+    private Long customDetections;
+
+    // confidence가 있는 탐지 수 / 합 / 최소 / 최대
+    @Column(name = "confidence_count")
+    private Long confidenceCount;
+
+    @Column(name = "confidence_sum")
+    private Double confidenceSum;
+
+    @Column(name = "confidence_min")
+    private Float confidenceMin;
+
+    @Column(name = "confidence_max")
+    private Float confidenceMax;
+
+    // 0.1 간격 10구간 개수 (콤마 구분)
+    @Column(name = "confidence_histogram", length = 255)
+    private String confidenceHistogram;
+
+    @Column(name = "frames_with_detections")
+    private Integer framesWithDetections;
+
+    public static DetectionStats empty() {
+        DetectionStats stats = new DetectionStats();
+        stats.faceDetections = 0L;
+        stats.plateDetections = 0L;
+        stats.customDetections = 0L;
+        stats.confidenceCount = 0L;
+        stats.confidenceSum = 0.0;
+        stats.framesWithDetections = 0;
+        stats.confidenceHistogram = joinHistogram(new long[HISTOGRAM_BINS]);
+        return stats;
+    }
+
+    /**
+     * 한 번의 수집 세션 결과 누적
+     */
+    public void merge(long faces, long plates, long customs, long confCount, double confSum,
+                      Float confMin, Float confMax, long[] histogram, int frames) {
+        this.faceDetections = nz(faceDetections) + faces;
+        this.plateDetections = nz(plateDetections) + plates;
+        this.customDetections = nz(customDetections) + customs;
+        this.confidenceCount = nz(confidenceCount) + confCount;
+        this.confidenceSum = (confidenceSum == null ? 0.0 : confidenceSum) + confSum;
+        if (confMin != null && (confidenceMin == null || confMin < confidenceMin)) this.confidenceMin = confMin;
+        if (confMax != null && (confidenceMax == null || confMax > confidenceMax)) this.confidenceMax = confMax;
+
+        long[] bins = getHistogramBins();
+        for (int i = 0; i < HISTOGRAM_BINS; i++) bins[i] += histogram[i];
+        this.confidenceHistogram = joinHistogram(bins);
+
+        this.framesWithDetections = (framesWithDetections == null ? 0 : framesWithDetections) + frames;
+    }
+
+    public Float getAverageConfidence() {
+        if (confidenceCount == null || confidenceCount == 0 || confidenceSum == null) return 0.0f;
+        return (float) (confidenceSum / confidenceCount);
+    }
+
+    public long[] getHistogramBins() {
+        long[] bins = new long[HISTOGRAM_BINS];
+        if (confidenceHistogram == null || confidenceHistogram.isEmpty()) return bins;
+        String[] parts = confidenceHistogram.split(",");
+        for (int i = 0; i < Math.min(parts.length, HISTOGRAM_BINS); i++) {
+            bins[i] = Long.parseLong(parts[i]);
+        }
+        return bins;
+    }
+
+    public List<Long> getHistogramList() {
+        List<Long> list = new ArrayList<>(HISTOGRAM_BINS);
+        for (long bin : getHistogramBins()) list.add(bin);
+        return list;
+    }
+
+    private static String joinHistogram(long[] bins) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < bins.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(bins[i]);
+        }
+        return sb.toString();
+    }
+
+    private static long nz(Long value) {
+        return value == null ? 0L : value;
+    }
+}
@@ -0,0 +1,74 @@
+package com.privacy.privacyplatform.video.entity;
+
+import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * TRACKS 저장 모드의 객체 트랙 (같은 classId가 연속으로 잡힌 구간 1건)
+ * bbox는 허용 오차를 넘게 움직인 프레임만 키프레임으로 보관하고 나머지는 보간
+ * 트랙 안에서 탐지되지 않은 프레임(max-frame-gap 이내)은 gaps 로 보관해서 펼칠 때 만들지 않음
+ * 트랙은 수집 세션 안에서만 이어짐 (청크 콜백은 청크마다 세션이 달라 청크 경계에서 트랙이 나뉨)
+ */
+@Entity
+@Table(name = "detection_tracks",
+        indexes = @Index(name = "idx_detection_tracks_video_frame", columnList = "video_id, start_frame"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DetectionTrack {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "video_id", nullable = false)
+    private Video video;
+
+    @Column(name = "class_id")
+    private Integer classId;
+
+    @Column(name = "label", length = 100)
+    private String label;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "object_type", nullable = false, length = 30)
+    private ObjectType objectType;
+
+    @Column(name = "start_frame", nullable = false)
+    private Integer startFrame;
+
+    @Column(name = "end_frame", nullable = false)
+    private Integer endFrame;
+
+    // 원본 프레임별 탐지 건수
+    @Column(name = "detection_count", nullable = false)
+    private Integer detectionCount;
+
+    @Column(name = "avg_confidence")
+    private Float avgConfidence;
+
+    @Column(name = "max_confidence")
+    private Float maxConfidence;
+
+    // TrackKeyframeCodec 포맷
+    @Column(name = "keyframes", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] keyframes;
+
+    // TrackKeyframeCodec gap 포맷 (null = 빈 프레임 없음)
+    @Column(name = "gaps", columnDefinition = "BLOB")
+    private byte[] gaps;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
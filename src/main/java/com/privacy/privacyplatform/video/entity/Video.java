@@ -1,6 +1,7 @@
 package com.privacy.privacyplatform.video.entity;
 
 import com.privacy.privacyplatform.user.User;
+import com.privacy.privacyplatform.video.entity.enums.DetectionStorageMode;
 import com.privacy.privacyplatform.video.entity.enums.ProcessStatus;
 import jakarta.persistence.*;
 import lombok.*;
@@ -11,7 +12,11 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "videos")
+@Table(name = "videos",
+        indexes = {
+                @Index(name = "idx_videos_user_created", columnList = "user_id, created_at, id"),
+                @Index(name = "idx_videos_user_status_changed", columnList = "user_id, status_changed_at")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -59,6 +64,11 @@ public class Video {
     @Builder.Default
     private List<Detection> detections = new ArrayList<>();
 
+    // 탐지 결과 저장 방식 (null = 기존 데이터, ROWS)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "detection_storage", length = 20)
+    private DetectionStorageMode detectionStorage;
+
     @Column(name = "uploaded_at", nullable = false, updatable = false)
     private LocalDateTime uploadedAt;
 
@@ -79,6 +89,29 @@ public class Video {
 
     @Column(name = "total_unique_objects")
     private Integer totalUniqueObjects;
+
+    // 저장된 탐지 결과 수 (목록 조회 시 detections를 읽지 않도록 수집 시점에 기록, null = 기존 데이터)
+    @Column(name = "total_detections")
+    private Integer totalDetections;
+
+    // 수집 시점에 계산한 탐지 통계 (null = 기존 데이터)
+    @Embedded
+    private DetectionStats detectionStats;
+
+    // 청크 콜백 진행 상황
+    @Column(name = "received_chunk_count")
+    private Integer receivedChunkCount;
+
+    @Column(name = "last_chunk_sequence")
+    private Integer lastChunkSequence;
+
+    @Column(name = "processed_frame_count")
+    private Integer processedFrameCount;
+
+    // 상태 / 진행률이 마지막으로 바뀐 시각 (일괄 상태 조회의 changed-since 기준, null = 기존 데이터)
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
     @PrePersist
     protected void onCreate() {
         this.uploadedAt = LocalDateTime.now();
@@ -89,6 +122,7 @@ public class Video {
         if (this.status == null) {
             this.status = ProcessStatus.UPLOADED;
         }
+        this.statusChangedAt = this.createdAt;
     }
 
     public void addDetection(Detection detection) {
@@ -96,8 +130,50 @@ public class Video {
         detection.setVideo(this);
     }
 
+    /**
+     * 청크 수신 반영 (frameEnd까지 처리된 것으로 기록)
+     */
+    public void recordChunk(Integer frameEnd) {
+        this.receivedChunkCount = (this.receivedChunkCount == null ? 0 : this.receivedChunkCount) + 1;
+        if (frameEnd != null) {
+            int processed = frameEnd + 1;
+            if (this.processedFrameCount == null || processed > this.processedFrameCount) {
+                this.processedFrameCount = processed;
+                this.statusChangedAt = LocalDateTime.now();
+            }
+        }
+    }
+
+    /**
+     * 마지막 청크를 받았고 0..lastChunkSequence 가 모두 도착했는지
+     *
+     * @param receivedInRange 0..lastChunkSequence 범위에서 받은 서로 다른 sequence 수
+     */
+    public boolean isAllChunksReceived(long receivedInRange) {
+        return lastChunkSequence != null && receivedInRange >= lastChunkSequence + 1;
+    }
+
+    /**
+     * 재처리 시작 시 이전 실행의 청크 진행 상황 / 탐지 수 / 통계 초기화 (누적 값이라 남겨 두면 두 번 더해짐)
+     */
+    public void resetProcessing() {
+        this.receivedChunkCount = null;
+        this.lastChunkSequence = null;
+        this.processedFrameCount = null;
+        this.totalDetections = null;
+        this.detectionStats = null;
+    }
+
+    /**
+     * 수집된 탐지 결과 수 누적
+     */
+    public void addDetectionCount(int count) {
+        this.totalDetections = (this.totalDetections == null ? 0 : this.totalDetections) + count;
+    }
+
     public void updateStatus(ProcessStatus status) {
         this.status = status;
+        this.statusChangedAt = LocalDateTime.now();
         if (status == ProcessStatus.COMPLETED) {
             this.processedAt = LocalDateTime.now();
         }
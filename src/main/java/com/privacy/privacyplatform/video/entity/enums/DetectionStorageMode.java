@@ -0,0 +1,17 @@
+package com.privacy.privacyplatform.video.entity.enums;
+
+public enum DetectionStorageMode {
+    ROWS("탐지 1건당 1행 저장"),
+    COLUMNAR("구간별 컬럼 압축 저장"),
+    TRACKS("객체 트랙 + bbox 키프레임 저장");
+
+    private final String description;
+
+    DetectionStorageMode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
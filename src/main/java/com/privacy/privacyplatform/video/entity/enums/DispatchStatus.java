@@ -0,0 +1,18 @@
+package com.privacy.privacyplatform.video.entity.enums;
+
+public enum DispatchStatus {
+    PENDING("발송 대기 (재시도 포함)"),
+    SENT("AI 서버 전달 완료"),
+    FAILED("재시도 한도 초과"),
+    SUPERSEDED("재처리 요청으로 대체됨");
+
+    private final String description;
+
+    DispatchStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,338 @@
+package com.privacy.privacyplatform.video.frameindex;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.privacy.privacyplatform.video.dto.response.VideoResultResponse;
+import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 프레임별 탐지 결과 인덱스 (로컬 파일을 mmap 해서 읽기 전용으로 사용)
+ *
+ * <pre>
+ * header (40B): magic "FIDX" | version(1) | pad(3) | ownerUserPk(8) | firstFrame(4) | frameSpan(4)
+ *               | detectionCount(4) | labelCount(4) | offsetsPos(4) | recordsPos(4)
+ * labels      : [utf8 길이(2) + bytes]...
+ * offsets     : (frameSpan + 1) x int, frame(firstFrame + i)의 첫 record 번호
+ * records     : 28B 고정 - classId(4) | labelIdx(2) | objectType(1) | flags(1) | confidence(4) | x1 x2 y1 y2 (4 x 4)
+ * </pre>
+ * 조회 시 record를 객체로 만들지 않고 버퍼에서 바로 JSON으로 씀
+ */
+public final class FrameIndex {
+
+    private static final int MAGIC = 0x46494458; // "FIDX"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 40;
+    private static final int RECORD_BYTES = 28;
+
+    private static final int NULL_CLASS_ID = Integer.MIN_VALUE;
+    private static final int FLAG_NULL_CONFIDENCE = 1;
+    private static final int FLAG_NULL_BBOX = 1 << 1;
+
+    private static final ObjectType[] OBJECT_TYPES = ObjectType.values();
+
+    private final MappedByteBuffer buffer;
+    private final long ownerUserPk;
+    private final int firstFrame;
+    private final int frameSpan;
+    private final int offsetsPos;
+    private final int recordsPos;
+    private final String[] labels;
+    private final long sizeBytes;
+
+    private FrameIndex(MappedByteBuffer buffer, long sizeBytes) {
+        this.buffer = buffer;
+        this.sizeBytes = sizeBytes;
+        if (buffer.getInt(0) != MAGIC || buffer.get(4) != VERSION) {
+            throw new IllegalStateException("프레임 인덱스 파일 포맷이 아닙니다");
+        }
+        this.ownerUserPk = buffer.getLong(8);
+        this.firstFrame = buffer.getInt(16);
+        this.frameSpan = buffer.getInt(20);
+        int labelCount = buffer.getInt(28);
+        this.offsetsPos = buffer.getInt(32);
+        this.recordsPos = buffer.getInt(36);
+
+        // 라벨 사전은 비디오당 한 번만 문자열로 만들어 둠
+        this.labels = new String[labelCount];
+        int pos = HEADER_BYTES;
+        for (int i = 0; i < labelCount; i++) {
+            int length = Short.toUnsignedInt(buffer.getShort(pos));
+            byte[] utf8 = new byte[length];
+            buffer.get(pos + 2, utf8);
+            labels[i] = new String(utf8, StandardCharsets.UTF_8);
+            pos += 2 + length;
+        }
+    }
+
+    /**
+     * 인덱스 파일 mmap
+     */
+    public static FrameIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            return new FrameIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), size);
+        }
+    }
+
+    /**
+     * 탐지 결과 공급원 (write 가 두 번 호출 - 1차: frame별 개수/라벨 집계, 2차: record 기록)
+     */
+    @FunctionalInterface
+    public interface DetectionSource {
+        void forEach(Consumer<VideoResultResponse.DetectionDto> sink) throws IOException;
+    }
+
+    /**
+     * 탐지 결과로 인덱스 파일 생성 (임시 파일에 쓴 뒤 교체)
+     * - 탐지 결과를 목록으로 모으지 않음: frame별 개수로 위치를 정한 뒤 2차 순회에서 mmap 한 파일에 바로 기록
+     * - 같은 frame 안의 순서는 공급 순서 그대로
+     */
+    public static void write(Path file, long ownerUserPk, DetectionSource source) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        FrameCounts counts = new FrameCounts();
+        source.forEach(dto -> {
+            if (dto.getFrameNumber() == null) return;
+            counts.add(dto.getFrameNumber());
+            if (dto.getLabel() != null) dictionary.putIfAbsent(dto.getLabel(), dictionary.size());
+        });
+
+        if (dictionary.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException("라벨 종류가 너무 많습니다: " + dictionary.size());
+        }
+        int labelBytes = 0;
+        List<byte[]> encodedLabels = new ArrayList<>(dictionary.size());
+        for (String label : dictionary.keySet()) {
+            byte[] utf8 = label.getBytes(StandardCharsets.UTF_8);
+            encodedLabels.add(utf8);
+            labelBytes += 2 + utf8.length;
+        }
+
+        int firstFrame = counts.firstFrame();
+        int frameSpan = counts.span();
+        long detectionCount = counts.total();
+        int offsetsPos = align4(HEADER_BYTES + labelBytes);
+        long recordsPos = offsetsPos + (frameSpan + 1L) * 4;
+        long total = recordsPos + detectionCount * RECORD_BYTES;
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalStateException("프레임 인덱스가 너무 큽니다: " + total + " bytes");
+        }
+
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, total);
+            out.putInt(MAGIC).put((byte) VERSION).put(new byte[3])
+                    .putLong(ownerUserPk)
+                    .putInt(firstFrame)
+                    .putInt(frameSpan)
+                    .putInt((int) detectionCount)
+                    .putInt(dictionary.size())
+                    .putInt(offsetsPos)
+                    .putInt((int) recordsPos);
+            for (byte[] utf8 : encodedLabels) {
+                out.putShort((short) utf8.length).put(utf8);
+            }
+
+            // frame별 다음 record 번호 (처음에는 frame의 첫 record 번호 = offsets)
+            int[] next = new int[frameSpan];
+            out.position(offsetsPos);
+            int record = 0;
+            for (int i = 0; i < frameSpan; i++) {
+                next[i] = record;
+                out.putInt(record);
+                record += counts.countAt(firstFrame + i);
+            }
+            out.putInt(record);
+
+            int records = (int) recordsPos;
+            source.forEach(dto -> {
+                if (dto.getFrameNumber() == null) return;
+                int slot = dto.getFrameNumber() - firstFrame;
+                // 1차 순회 이후 탐지 결과가 바뀌어 frame 자리가 넘치면 중단
+                if (slot < 0 || slot >= frameSpan || next[slot] >= out.getInt(offsetsPos + (slot + 1) * 4)) {
+                    throw new IllegalStateException("프레임 인덱스 생성 중 탐지 결과가 바뀌었습니다");
+                }
+                putRecord(out, records + next[slot]++ * RECORD_BYTES, dto, dictionary);
+            });
+            for (int i = 0; i < frameSpan; i++) {
+                if (next[i] != out.getInt(offsetsPos + (i + 1) * 4)) {
+                    throw new IllegalStateException("프레임 인덱스 생성 중 탐지 결과가 바뀌었습니다");
+                }
+            }
+
+            out.force();
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public long getOwnerUserPk() {
+        return ownerUserPk;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * [fromFrame, toFrame] 구간을 JSON으로 씀 (탐지가 없는 frame은 생략)
+     * {"frames":[{"frame":N,"detections":[{"classId":..,"label":..,"objectType":..,"confidence":..,"bbox":[..]}]}]}
+     */
+    public void writeWindow(JsonGenerator gen, int fromFrame, int toFrame) throws IOException {
+        gen.writeArrayFieldStart("frames");
+
+        int from = Math.max(fromFrame, firstFrame);
+        int to = Math.min(toFrame, firstFrame + frameSpan - 1);
+        for (int frame = from; frame <= to; frame++) {
+            int slot = offsetsPos + (frame - firstFrame) * 4;
+            int start = buffer.getInt(slot);
+            int end = buffer.getInt(slot + 4);
+            if (start == end) continue;
+
+            gen.writeStartObject();
+            gen.writeNumberField("frame", frame);
+            gen.writeArrayFieldStart("detections");
+            for (int r = start; r < end; r++) {
+                writeRecord(gen, recordsPos + r * RECORD_BYTES);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+
+        gen.writeEndArray();
+    }
+
+    private void writeRecord(JsonGenerator gen, int pos) throws IOException {
+        int classId = buffer.getInt(pos);
+        short labelIdx = buffer.getShort(pos + 4);
+        int objectType = buffer.get(pos + 6);
+        int flags = buffer.get(pos + 7);
+
+        gen.writeStartObject();
+        if (classId != NULL_CLASS_ID) {
+            gen.writeNumberField("classId", classId);
+        }
+        if (labelIdx >= 0) {
+            gen.writeStringField("label", labels[labelIdx]);
+        }
+        gen.writeStringField("objectType", OBJECT_TYPES[objectType].name());
+        if ((flags & FLAG_NULL_CONFIDENCE) == 0) {
+            gen.writeNumberField("confidence", buffer.getFloat(pos + 8));
+        }
+        if ((flags & FLAG_NULL_BBOX) == 0) {
+            gen.writeArrayFieldStart("bbox");
+            for (int k = 0; k < 4; k++) {
+                gen.writeNumber(buffer.getInt(pos + 12 + k * 4));
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void putRecord(MappedByteBuffer out, int pos, VideoResultResponse.DetectionDto dto,
+                                  Map<String, Integer> dictionary) {
+        List<Integer> bbox = dto.getBbox();
+        boolean hasBbox = isCompleteBbox(bbox);
+        int flags = (dto.getConfidence() == null ? FLAG_NULL_CONFIDENCE : 0) | (hasBbox ? 0 : FLAG_NULL_BBOX);
+
+        out.putInt(pos, dto.getClassId() != null ? dto.getClassId() : NULL_CLASS_ID);
+        Integer labelIdx = dto.getLabel() != null ? dictionary.get(dto.getLabel()) : Integer.valueOf(-1);
+        if (labelIdx == null) {
+            throw new IllegalStateException("프레임 인덱스 생성 중 탐지 결과가 바뀌었습니다");
+        }
+        out.putShort(pos + 4, labelIdx.shortValue());
+        out.put(pos + 6, (byte) objectTypeOrdinal(dto.getObjectType()));
+        out.put(pos + 7, (byte) flags);
+        out.putFloat(pos + 8, dto.getConfidence() != null ? dto.getConfidence() : 0.0f);
+        for (int k = 0; k < 4; k++) {
+            out.putInt(pos + 12 + k * 4, hasBbox ? bbox.get(k) : 0);
+        }
+    }
+
+    private static int objectTypeOrdinal(String objectType) {
+        if (objectType != null) {
+            for (ObjectType type : OBJECT_TYPES) {
+                if (type.name().equals(objectType)) return type.ordinal();
+            }
+        }
+        return ObjectType.CUSTOM_OBJECT.ordinal();
+    }
+
+    private static boolean isCompleteBbox(List<Integer> bbox) {
+        if (bbox == null || bbox.size() < 4) return false;
+        for (int k = 0; k < 4; k++) {
+            if (bbox.get(k) == null) return false;
+        }
+        return true;
+    }
+
+    private static int align4(int value) {
+        return (value + 3) & ~3;
+    }
+
+    /**
+     * frame별 탐지 개수 (처음 본 frame 기준 배열, 범위 밖 frame이 오면 늘림)
+     */
+    private static final class FrameCounts {
+        private int base;
+        private int[] counts = new int[0];
+        private int first = Integer.MAX_VALUE;
+        private int last = Integer.MIN_VALUE;
+        private long total;
+
+        void add(int frame) {
+            if (counts.length == 0) {
+                base = frame;
+                counts = new int[1024];
+            }
+            if (frame < base || frame - (long) base >= counts.length) {
+                grow(Math.min(frame, base), Math.max(frame, base + counts.length - 1));
+            }
+            counts[frame - base]++;
+            first = Math.min(first, frame);
+            last = Math.max(last, frame);
+            total++;
+        }
+
+        private void grow(int from, int to) {
+            long needed = (long) to - from + 1;
+            if (needed * 4 > Integer.MAX_VALUE) {
+                throw new IllegalStateException("프레임 인덱스가 너무 큽니다: frame 범위 " + needed);
+            }
+            int[] grown = new int[(int) Math.min(Integer.MAX_VALUE / 4, Math.max(needed, counts.length * 2L))];
+            // 아래로 늘어나면 여유분을 앞쪽에 둠
+            int newBase = from < base ? (int) Math.max((long) to - grown.length + 1, Integer.MIN_VALUE) : base;
+            System.arraycopy(counts, 0, grown, base - newBase, counts.length);
+            counts = grown;
+            base = newBase;
+        }
+
+        int firstFrame() {
+            return total == 0 ? 0 : first;
+        }
+
+        int span() {
+            return total == 0 ? 0 : last - first + 1;
+        }
+
+        long total() {
+            return total;
+        }
+
+        int countAt(int frame) {
+            return counts[frame - base];
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.privacy.privacyplatform.video.frameindex;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 비디오별 프레임 인덱스 파일 캐시 (mmap, 파일 크기 합 기준 LRU)
+ * - 힙에는 파일 헤더/라벨 사전만 올라가고 탐지 결과는 page cache에 있음
+ * - 한도를 넘으면 가장 오래 안 쓴 인덱스의 매핑을 버리고 파일도 삭제 (다음 조회 때 재생성)
+ * - 재기동 시 남아 있는 인덱스 파일을 다시 등록
+ */
+@Slf4j
+@Component
+public class FrameIndexCache {
+
+    private static final String FILE_SUFFIX = ".fidx";
+
+    private final Path dir;
+    private final long maxBytes;
+
+    // access-order LinkedHashMap (가장 오래 안 쓴 항목이 앞)
+    private final LinkedHashMap<String, FrameIndex> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public FrameIndexCache(
+            @Value("${app.frame-index.dir:./data/frame-index}") String dir,
+            @Value("${app.frame-index.max-bytes:536870912}") long maxBytes,
+            MeterRegistry meterRegistry) {
+        this.dir = Paths.get(dir);
+        this.maxBytes = maxBytes;
+
+        this.hits = Counter.builder("frame.index.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("frame.index.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("frame.index.cache.evictions").register(meterRegistry);
+        Gauge.builder("frame.index.cache.bytes", this, FrameIndexCache::getTotalBytes)
+                .description("mmap 된 프레임 인덱스 파일 크기 합")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 남아 있는 인덱스 파일 등록 (최근 수정된 파일이 LRU 뒤쪽)
+     */
+    @PostConstruct
+    void loadExisting() throws IOException {
+        Files.createDirectories(dir);
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream.filter(p -> p.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .sorted(Comparator.comparing(p -> p.toFile().lastModified()))
+                    .toList();
+        }
+
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            String videoId = name.substring(0, name.length() - FILE_SUFFIX.length());
+            try {
+                register(videoId, FrameIndex.open(file));
+            } catch (IOException | RuntimeException e) {
+                log.warn("프레임 인덱스 파일 손상 - 삭제: {}", file);
+                Files.deleteIfExists(file);
+            }
+        }
+        if (!entries.isEmpty()) {
+            log.info("프레임 인덱스 캐시 복구: {}개, {} bytes", entries.size(), totalBytes);
+        }
+    }
+
+    public FrameIndex get(String videoId) {
+        FrameIndex index;
+        synchronized (this) {
+            index = entries.get(videoId);
+        }
+        if (index != null) hits.increment();
+        else misses.increment();
+        return index;
+    }
+
+    /**
+     * 인덱스 파일 경로 (FrameIndex.write 대상)
+     */
+    public Path fileFor(String videoId) {
+        if (!videoId.matches("[A-Za-z0-9-]+")) {
+            throw new RuntimeException("잘못된 videoId 입니다: " + videoId);
+        }
+        return dir.resolve(videoId + FILE_SUFFIX);
+    }
+
+    /**
+     * 새로 만든 인덱스 파일 등록
+     */
+    public FrameIndex load(String videoId) throws IOException {
+        FrameIndex index = FrameIndex.open(fileFor(videoId));
+        register(videoId, index);
+        return index;
+    }
+
+    /**
+     * 비디오 삭제 시 호출
+     */
+    public void evict(String videoId) {
+        synchronized (this) {
+            FrameIndex removed = entries.remove(videoId);
+            if (removed != null) totalBytes -= removed.getSizeBytes();
+        }
+        deleteFile(videoId);
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private void register(String videoId, FrameIndex index) {
+        List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            FrameIndex previous = entries.put(videoId, index);
+            if (previous != null) totalBytes -= previous.getSizeBytes();
+            totalBytes += index.getSizeBytes();
+
+            // 방금 넣은 항목은 남김
+            Iterator<Map.Entry<String, FrameIndex>> it = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && entries.size() > 1 && it.hasNext()) {
+                Map.Entry<String, FrameIndex> eldest = it.next();
+                if (eldest.getKey().equals(videoId)) continue;
+                totalBytes -= eldest.getValue().getSizeBytes();
+                evicted.add(eldest.getKey());
+                it.remove();
+            }
+        }
+
+        // 매핑은 참조가 없어지면 GC 시 해제됨 (Linux는 삭제된 파일도 매핑이 살아 있는 동안 읽기 가능)
+        for (String key : evicted) {
+            deleteFile(key);
+            evictions.increment();
+        }
+    }
+
+    private void deleteFile(String videoId) {
+        try {
+            Files.deleteIfExists(fileFor(videoId));
+        } catch (IOException e) {
+            log.warn("프레임 인덱스 파일 삭제 실패: videoId={}", videoId, e);
+        }
+    }
+}
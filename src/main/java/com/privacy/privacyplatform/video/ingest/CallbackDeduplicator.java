@@ -0,0 +1,95 @@
+package com.privacy.privacyplatform.video.ingest;
+
+import com.privacy.privacyplatform.video.repository.CallbackReceiptRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 재전송된 AI 콜백 판별
+ * - 키는 비디오 단위 (videoId:callbackId키/본문해시키) - 다른 비디오의 같은 callbackId와 섞이지 않음
+ * - 최근 반영한 키는 메모리 LRU에서 바로 판별
+ * - 메모리에 없으면 callback_receipts 조회 (재기동/다른 인스턴스가 반영한 경우)
+ * - 재처리/삭제로 receipt가 지워지면 evictVideo로 그 비디오의 키도 버림
+ */
+@Component
+public class CallbackDeduplicator {
+
+    private final CallbackReceiptRepository callbackReceiptRepository;
+    // 범위 키 → videoId
+    private final Map<String, String> recentKeys;
+
+    private final Counter memoryHits;
+    private final Counter dbHits;
+
+    public CallbackDeduplicator(
+            CallbackReceiptRepository callbackReceiptRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.callback-dedupe.cache-size:10000}") int cacheSize) {
+        this.callbackReceiptRepository = callbackReceiptRepository;
+        this.recentKeys = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+
+        this.memoryHits = Counter.builder("callback.dedupe.hits")
+                .tag("source", "memory")
+                .description("중복 콜백으로 판별된 수")
+                .register(meterRegistry);
+        this.dbHits = Counter.builder("callback.dedupe.hits")
+                .tag("source", "db")
+                .description("중복 콜백으로 판별된 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * callback_receipts.dedupe_key 에 저장되는 비디오 단위 키
+     */
+    public static String scopedKey(String videoId, String dedupeKey) {
+        return videoId + ":" + dedupeKey;
+    }
+
+    /**
+     * 이미 반영된 콜백인지
+     */
+    public boolean isApplied(String videoId, String dedupeKey) {
+        String key = scopedKey(videoId, dedupeKey);
+        synchronized (recentKeys) {
+            if (recentKeys.containsKey(key)) {
+                memoryHits.increment();
+                return true;
+            }
+        }
+
+        if (callbackReceiptRepository.existsByDedupeKey(key)) {
+            remember(videoId, dedupeKey);
+            dbHits.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 반영 완료된 키 기록 (DB receipt 커밋 후 호출)
+     */
+    public void remember(String videoId, String dedupeKey) {
+        synchronized (recentKeys) {
+            recentKeys.put(scopedKey(videoId, dedupeKey), videoId);
+        }
+    }
+
+    /**
+     * 비디오의 키를 모두 버림 (재처리/삭제 커밋 후, 다른 노드의 상태 변경/삭제 이벤트 수신 시)
+     */
+    public void evictVideo(String videoId) {
+        synchronized (recentKeys) {
+            recentKeys.values().removeIf(videoId::equals);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.privacy.privacyplatform.video.ingest;
+
+import com.privacy.privacyplatform.video.service.VideoService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 콜백 비동기 수집 큐
+ * - 요청 스레드: 본문을 스풀에 내구화한 뒤 바로 응답 (DB 반영은 기다리지 않음)
+ * - 워커 풀: 스풀 레코드를 읽어 VideoService.handleAiCallback 으로 DB 반영
+ * - 재기동 시 checkpoint 이후 미처리 레코드를 다시 처리
+ * - 밀린 양이 한도를 넘으면 새 콜백을 거절해서 AI 서버가 재시도하도록 함
+ * - 이미 반영된 콜백(videoId + callbackId 또는 본문 해시 기준)은 워커에 넘기지 않고 바로 응답
+ *   (videoId를 알 때만 - 모르면 워커가 본문의 videoId로 판별)
+ */
+@Slf4j
+@Component
+public class CallbackIngestQueue {
+
+    private final CallbackSpool spool;
+    private final CallbackDeduplicator deduplicator;
+    private final VideoService videoService;
+    private final ExecutorService workers;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Counter duplicateCounter;
+
+    /**
+     * 콜백 접수 결과
+     */
+    public enum EnqueueResult {
+        ACCEPTED,
+        DUPLICATE,
+        REJECTED
+    }
+
+    public CallbackIngestQueue(
+            CallbackSpool spool,
+            CallbackDeduplicator deduplicator,
+            VideoService videoService,
+            MeterRegistry meterRegistry,
+            @Value("${app.callback-spool.workers:2}") int workerCount,
+            @Value("${app.callback-spool.max-attempts:5}") int maxAttempts,
+            @Value("${app.callback-spool.retry-backoff-ms:1000}") long retryBackoffMs) {
+        this.spool = spool;
+        this.deduplicator = deduplicator;
+        this.videoService = videoService;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread t = new Thread(r, "callback-ingest-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.processedCounter = Counter.builder("callback.spool.processed")
+                .description("스풀에서 DB로 반영된 콜백 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("callback.spool.failed")
+                .description("재시도 한도를 넘어 dead-letter로 옮긴 콜백 수")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("callback.spool.duplicates")
+                .description("이미 반영되어 건너뛴 콜백 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 콜백 본문 접수
+     *
+     * @param videoId    콜백 URL에 실어 보낸 videoId (없으면 null - 중복 판별을 워커로 미룸)
+     * @param callbackId AI 서버가 준 콜백 ID (X-Callback-Id, 없으면 본문 해시로 판별)
+     */
+    public EnqueueResult enqueue(InputStream body, String videoId, String callbackId) throws IOException {
+        // callbackId가 있으면 본문을 받기 전에 판별
+        if (videoId != null && callbackId != null
+                && deduplicator.isApplied(videoId, CallbackSpool.Record.callbackIdKey(callbackId))) {
+            duplicateCounter.increment();
+            return EnqueueResult.DUPLICATE;
+        }
+        if (spool.isBacklogFull()) {
+            return EnqueueResult.REJECTED;
+        }
+
+        CallbackSpool.Record record = spool.append(body, callbackId);
+        if (videoId != null && callbackId == null && deduplicator.isApplied(videoId, record.getDedupeKey())) {
+            spool.markDone(record);
+            duplicateCounter.increment();
+            return EnqueueResult.DUPLICATE;
+        }
+
+        workers.execute(() -> process(record));
+        return EnqueueResult.ACCEPTED;
+    }
+
+    /**
+     * 재기동 시 미처리 레코드 재처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replay() {
+        // 기동 시 복구된 레코드만 (기동 후 enqueue된 레코드는 이미 워커에 제출됨)
+        List<CallbackSpool.Record> records = spool.takeRecoveredRecords();
+        if (records.isEmpty()) return;
+
+        log.info("🔁 콜백 스풀 재처리 시작: {}건", records.size());
+        for (CallbackSpool.Record record : records) {
+            workers.execute(() -> process(record));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // 진행 중인 레코드는 끝까지 반영, 못 끝낸 레코드는 다음 기동 때 재처리
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private void process(CallbackSpool.Record record) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            boolean applied = false;
+            try {
+                // 반영된 키는 VideoService가 커밋 후 deduplicator에 기록
+                if (!videoService.handleAiCallback(() -> spool.openPayload(record), record.getDedupeKey())) {
+                    duplicateCounter.increment();
+                }
+                applied = true;
+            } catch (Exception e) {
+                log.warn("콜백 반영 실패 ({}/{}): offset={}, error={}",
+                        attempt, maxAttempts, record.getOffset(), e.getMessage());
+            }
+            if (applied) {
+                // DB 반영 후에는 재시도하지 않음 (checkpoint 기록 실패 시 재기동 때 한 번 더 처리될 수 있음)
+                markDone(record);
+                processedCounter.increment();
+                return;
+            }
+            if (attempt == maxAttempts) break;
+
+            try {
+                Thread.sleep(retryBackoffMs * (1L << (attempt - 1)));
+            } catch (InterruptedException e) {
+                // 종료 중이면 레코드를 남겨두고 다음 기동 때 재처리
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        try {
+            Path target = spool.moveToDeadLetter(record);
+            markDone(record);
+            failedCounter.increment();
+            log.error("❌ 콜백 반영 포기 - dead-letter 보관: {}", target);
+        } catch (IOException e) {
+            log.error("dead-letter 보관 실패: offset={}", record.getOffset(), e);
+        }
+    }
+
+    private void markDone(CallbackSpool.Record record) {
+        try {
+            spool.markDone(record);
+        } catch (IOException e) {
+            log.error("콜백 스풀 checkpoint 기록 실패: offset={}", record.getOffset(), e);
+        }
+    }
+}
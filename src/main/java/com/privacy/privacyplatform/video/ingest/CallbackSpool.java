@@ -0,0 +1,482 @@
+package com.privacy.privacyplatform.video.ingest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * AI 콜백 본문 로컬 스풀 (append-only 파일)
+ *
+ * <pre>
+ * 레코드: magic(4) | payload 길이(8, 쓰는 중이면 -1) | payload SHA-256(32)
+ *        | callbackId 길이(2) | callbackId(utf8) | payload
+ * checkpoint 파일: 여기까지의 레코드는 모두 DB 반영 완료
+ * </pre>
+ * - 본문은 잠금 밖에서 임시 파일로 받은 뒤 잠금 안에서는 로컬 복사만 (느린 업로드가 다른 append를 막지 않음)
+ * - append 후 group fsync: 동시에 들어온 append들은 fsync 한 번으로 함께 내구화
+ * - 처리 완료가 순서와 무관하게 와도 앞에서부터 연속된 완료 구간만 checkpoint로 전진
+ * - 밀린 레코드가 없으면 파일을 비워서 크기를 유지
+ */
+@Slf4j
+@Component
+public class CallbackSpool {
+
+    private static final int RECORD_MAGIC = 0x53504F4C; // "SPOL"
+    private static final int FIXED_HEADER_BYTES = 46;
+    private static final int DIGEST_BYTES = 32;
+    private static final int MAX_CALLBACK_ID_BYTES = 200;
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+    private static final String STAGING_PREFIX = "append-";
+
+    private final Path dir;
+    private final Path spoolFile;
+    private final Path checkpointFile;
+    private final long maxPendingBytes;
+    private final MeterRegistry meterRegistry;
+
+    private FileChannel channel;
+
+    // 잠금 순서: writeLock → forceLock → stateLock
+    private final Object writeLock = new Object();
+    private final Object forceLock = new Object();
+    private final Object stateLock = new Object();
+
+    private volatile long appendedPosition;
+    private volatile long durablePosition;
+
+    // 아직 처리되지 않은 레코드 (offset 순)
+    private final TreeMap<Long, Record> pending = new TreeMap<>();
+    private long checkpoint;
+    private volatile long pendingBytes;
+
+    // 기동 시 복구된 미처리 레코드 (재처리 대상, 한 번만 꺼내감)
+    private List<Record> recovered = List.of();
+
+    public CallbackSpool(
+            @Value("${app.callback-spool.dir:./data/callback-spool}") String dir,
+            @Value("${app.callback-spool.max-pending-bytes:2147483648}") long maxPendingBytes,
+            MeterRegistry meterRegistry) {
+        this.dir = Paths.get(dir);
+        this.spoolFile = this.dir.resolve("callbacks.spool");
+        this.checkpointFile = this.dir.resolve("callbacks.checkpoint");
+        this.maxPendingBytes = maxPendingBytes;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 스풀 레코드 위치
+     */
+    @Getter
+    public static class Record {
+        private final long offset;
+        private final int headerLength;
+        private final long length;
+        private final String callbackId;
+        private final String digest;
+        private boolean done;
+
+        Record(long offset, int headerLength, long length, String callbackId, String digest) {
+            this.offset = offset;
+            this.headerLength = headerLength;
+            this.length = length;
+            this.callbackId = callbackId;
+            this.digest = digest;
+        }
+
+        /**
+         * 중복 판단 키 (AI 서버가 준 callbackId 우선, 없으면 본문 해시 - 본문에 videoId가 포함됨)
+         */
+        public String getDedupeKey() {
+            return callbackId != null ? callbackIdKey(callbackId) : "sha256:" + digest;
+        }
+
+        public static String callbackIdKey(String callbackId) {
+            return "id:" + callbackId;
+        }
+
+        long end() {
+            return offset + headerLength + length;
+        }
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        Files.createDirectories(dir);
+        deleteStagingFiles();
+        channel = FileChannel.open(spoolFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        checkpoint = readCheckpoint();
+        recover();
+
+        Gauge.builder("callback.spool.pending.bytes", () -> pendingBytes)
+                .description("DB 반영 대기 중인 콜백 본문 크기")
+                .register(meterRegistry);
+        Gauge.builder("callback.spool.pending.records", () -> pendingRecords().size())
+                .description("DB 반영 대기 중인 콜백 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * 밀린 콜백이 한도를 넘었는지 (넘으면 새 콜백을 받지 않음)
+     */
+    public boolean isBacklogFull() {
+        return pendingBytes >= maxPendingBytes;
+    }
+
+    /**
+     * 본문을 스풀에 추가하고 디스크에 내구화될 때까지 대기
+     * - 본문 수신(+SHA-256 계산)은 잠금 밖에서 임시 파일로, 잠금 안에서는 로컬 파일 복사만
+     *
+     * @param callbackId AI 서버가 준 콜백 ID (없으면 null)
+     */
+    public Record append(InputStream body, String callbackId) throws IOException {
+        byte[] idBytes = callbackId != null ? callbackId.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (idBytes.length > MAX_CALLBACK_ID_BYTES) {
+            throw new RuntimeException("콜백 ID가 너무 깁니다: " + idBytes.length + " bytes");
+        }
+        int headerLength = FIXED_HEADER_BYTES + idBytes.length;
+        MessageDigest sha256 = newSha256();
+        Record record;
+
+        Path staged = Files.createTempFile(dir, STAGING_PREFIX, ".tmp");
+        try (FileChannel stage = FileChannel.open(staged, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+            long length = 0;
+            byte[] buffer = new byte[COPY_BUFFER_BYTES];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                sha256.update(buffer, 0, read);
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    stage.write(chunk);
+                }
+                length += read;
+            }
+            byte[] digest = sha256.digest();
+
+            synchronized (writeLock) {
+                long start = appendedPosition;
+                try {
+                    ByteBuffer header = ByteBuffer.allocate(headerLength)
+                            .putInt(RECORD_MAGIC)
+                            .putLong(-1L)
+                            .put(new byte[DIGEST_BYTES])
+                            .putShort((short) idBytes.length)
+                            .put(idBytes)
+                            .flip();
+                    writeFully(header, start);
+
+                    long copied = 0;
+                    while (copied < length) {
+                        long transferred = channel.transferFrom(
+                                stage.position(copied), start + headerLength + copied, length - copied);
+                        if (transferred <= 0) throw new IOException("콜백 본문 스풀 복사 실패");
+                        copied += transferred;
+                    }
+
+                    // 본문을 디스크에 내린 뒤에 길이/해시를 채움 (중간에 죽으면 길이가 -1로 남아 복구 시 잘라냄)
+                    // (force 없이는 헤더가 본문보다 먼저 디스크에 닿을 수 있음 - 복구 시 해시로도 한 번 더 확인)
+                    channel.force(false);
+                    writeFully(ByteBuffer.allocate(8 + DIGEST_BYTES).putLong(length).put(digest).flip(), start + 4);
+                    record = new Record(start, headerLength, length, callbackId, HexFormat.of().formatHex(digest));
+                } catch (IOException e) {
+                    channel.truncate(start);
+                    throw e;
+                }
+
+                synchronized (stateLock) {
+                    pending.put(record.offset, record);
+                    pendingBytes += record.length;
+                }
+                appendedPosition = record.end();
+            }
+        }
+
+        awaitDurable(record.end());
+        return record;
+    }
+
+    /**
+     * group fsync: 먼저 들어온 스레드가 force 하면 그 사이 append된 레코드도 함께 내구화
+     */
+    private void awaitDurable(long position) throws IOException {
+        if (durablePosition >= position) return;
+
+        synchronized (forceLock) {
+            if (durablePosition >= position) return;
+            long target = appendedPosition;
+            channel.force(false);
+            durablePosition = target;
+        }
+    }
+
+    /**
+     * 레코드 본문 읽기
+     */
+    public InputStream openPayload(Record record) throws IOException {
+        FileChannel reader = FileChannel.open(spoolFile, StandardOpenOption.READ);
+        reader.position(record.offset + record.headerLength);
+        return new LimitedInputStream(Channels.newInputStream(reader), record.length);
+    }
+
+    /**
+     * 레코드 처리 완료 (DB 반영 또는 dead-letter 이동 후 호출)
+     */
+    public void markDone(Record record) throws IOException {
+        boolean drained;
+        synchronized (stateLock) {
+            if (record.done) return;
+            record.done = true;
+            pendingBytes -= record.length;
+
+            long newCheckpoint = checkpoint;
+            while (!pending.isEmpty() && pending.firstEntry().getValue().done) {
+                newCheckpoint = pending.pollFirstEntry().getValue().end();
+            }
+            if (newCheckpoint != checkpoint) {
+                checkpoint = newCheckpoint;
+                writeCheckpoint(checkpoint);
+            }
+            drained = pending.isEmpty();
+        }
+
+        if (drained) {
+            compact();
+        }
+    }
+
+    /**
+     * 기동 시 복구된 미처리 레코드 (처음 한 번만 반환, 이후 append된 레코드는 포함하지 않음)
+     */
+    public List<Record> takeRecoveredRecords() {
+        synchronized (stateLock) {
+            List<Record> records = new ArrayList<>();
+            for (Record record : recovered) {
+                if (!record.done) records.add(record);
+            }
+            recovered = List.of();
+            return records;
+        }
+    }
+
+    /**
+     * 아직 처리되지 않은 레코드 목록
+     */
+    public List<Record> pendingRecords() {
+        synchronized (stateLock) {
+            List<Record> records = new ArrayList<>();
+            for (Record record : pending.values()) {
+                if (!record.done) records.add(record);
+            }
+            return records;
+        }
+    }
+
+    /**
+     * 처리 못 한 본문 보관 (재시도 한도 초과)
+     */
+    public Path moveToDeadLetter(Record record) throws IOException {
+        Path failedDir = dir.resolve("failed");
+        Files.createDirectories(failedDir);
+        Path target = failedDir.resolve("callback-" + System.currentTimeMillis() + "-" + record.offset + ".json");
+        try (InputStream in = openPayload(record)) {
+            Files.copy(in, target);
+        }
+        return target;
+    }
+
+    /**
+     * 밀린 레코드가 없으면 파일을 비움
+     */
+    private void compact() throws IOException {
+        synchronized (writeLock) {
+            synchronized (forceLock) {
+                synchronized (stateLock) {
+                    if (!pending.isEmpty() || checkpoint != appendedPosition || appendedPosition == 0) return;
+
+                    channel.truncate(0);
+                    channel.force(true);
+                    appendedPosition = 0;
+                    durablePosition = 0;
+                    checkpoint = 0;
+                    writeCheckpoint(0);
+                }
+            }
+        }
+    }
+
+    /**
+     * checkpoint 이후 레코드 스캔, 쓰다 만 꼬리(길이 -1, 길이 초과, 해시 불일치)는 잘라냄
+     */
+    private void recover() throws IOException {
+        long size = channel.size();
+        long position = Math.min(checkpoint, size);
+        ByteBuffer header = ByteBuffer.allocate(FIXED_HEADER_BYTES);
+
+        while (position + FIXED_HEADER_BYTES <= size) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            int magic = header.getInt();
+            long length = header.getLong();
+            byte[] digest = new byte[DIGEST_BYTES];
+            header.get(digest);
+            int idLength = header.getShort();
+            int headerLength = FIXED_HEADER_BYTES + idLength;
+            if (magic != RECORD_MAGIC || length < 0 || idLength < 0 || idLength > MAX_CALLBACK_ID_BYTES
+                    || position + headerLength + length > size
+                    || !MessageDigest.isEqual(digest, digestOf(position + headerLength, length))) {
+                break;
+            }
+            String callbackId = null;
+            if (idLength > 0) {
+                ByteBuffer id = ByteBuffer.allocate(idLength);
+                readFully(id, position + FIXED_HEADER_BYTES);
+                callbackId = new String(id.array(), StandardCharsets.UTF_8);
+            }
+            Record record = new Record(position, headerLength, length, callbackId, HexFormat.of().formatHex(digest));
+            pending.put(record.offset, record);
+            pendingBytes += length;
+            position = record.end();
+        }
+
+        if (position < size) {
+            log.warn("콜백 스풀 끝부분 손상 - 잘라냄: position={}, size={}", position, size);
+            channel.truncate(position);
+        }
+        channel.force(true);
+        appendedPosition = position;
+        durablePosition = position;
+
+        recovered = new ArrayList<>(pending.values());
+        if (!pending.isEmpty()) {
+            log.info("콜백 스풀 복구: 미처리 {}건, {} bytes", pending.size(), pendingBytes);
+        }
+    }
+
+    /**
+     * 수신 중 죽어서 남은 임시 본문 파일 정리
+     */
+    private void deleteStagingFiles() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, STAGING_PREFIX + "*.tmp")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private byte[] digestOf(long position, long length) throws IOException {
+        MessageDigest sha256 = newSha256();
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(COPY_BUFFER_BYTES, Math.max(length, 1)));
+        long end = position + length;
+        while (position < end) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), end - position));
+            readFully(buffer, position);
+            buffer.flip();
+            position += buffer.remaining();
+            sha256.update(buffer);
+        }
+        return sha256.digest();
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) return 0;
+        byte[] bytes = Files.readAllBytes(checkpointFile);
+        return bytes.length == 8 ? ByteBuffer.wrap(bytes).getLong() : 0;
+    }
+
+    private void writeCheckpoint(long value) throws IOException {
+        Path tmp = dir.resolve("callbacks.checkpoint.tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.write(ByteBuffer.allocate(8).putLong(value).flip());
+            out.force(true);
+        }
+        Files.move(tmp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) throw new IOException("콜백 스풀 읽기 중 EOF");
+            position += read;
+        }
+    }
+
+    /**
+     * 레코드 길이만큼만 읽는 스트림
+     */
+    private static class LimitedInputStream extends InputStream {
+        private final InputStream in;
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            this.in = in;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) return -1;
+            int b = in.read();
+            if (b >= 0) remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) return -1;
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) remaining -= read;
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
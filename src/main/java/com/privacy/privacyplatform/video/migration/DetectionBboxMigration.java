@@ -0,0 +1,65 @@
+package com.privacy.privacyplatform.video.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * detections.bounding_box(JSON TEXT) → bbox_x1/x2/y1/y2 정수 컬럼 이관
+ * - ddl-auto=update 가 새 컬럼만 추가하므로 기존 행은 기동 시 id 구간 단위로 채움
+ * - 이관이 끝난 뒤에는 bounding_box 컬럼을 수동으로 DROP 해도 됨
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class DetectionBboxMigration implements ApplicationRunner {
+
+    private static final int STEP = 10_000;
+
+    private static final String LEGACY_COLUMN_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.COLUMNS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'detections' AND COLUMN_NAME = 'bounding_box'";
+
+    private static final String BACKFILL_SQL =
+            "UPDATE detections SET " +
+                    "bbox_x1 = JSON_VALUE(bounding_box, '$[0]'), " +
+                    "bbox_x2 = JSON_VALUE(bounding_box, '$[1]'), " +
+                    "bbox_y1 = JSON_VALUE(bounding_box, '$[2]'), " +
+                    "bbox_y2 = JSON_VALUE(bounding_box, '$[3]') " +
+                    "WHERE id > ? AND id <= ? AND bbox_x1 IS NULL AND bounding_box IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            Integer legacy = jdbcTemplate.queryForObject(LEGACY_COLUMN_EXISTS_SQL, Integer.class);
+            if (legacy == null || legacy == 0) return;
+
+            Map<String, Object> range = jdbcTemplate.queryForMap(
+                    "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM detections " +
+                            "WHERE bbox_x1 IS NULL AND bounding_box IS NOT NULL");
+            if (range.get("min_id") == null) return;
+
+            long minId = ((Number) range.get("min_id")).longValue();
+            long maxId = ((Number) range.get("max_id")).longValue();
+            log.info("bbox 컬럼 이관 시작: id {} ~ {}", minId, maxId);
+
+            long updated = 0;
+            for (long from = minId - 1; from < maxId; from += STEP) {
+                updated += jdbcTemplate.update(BACKFILL_SQL, from, Math.min(from + STEP, maxId));
+            }
+            log.info("bbox 컬럼 이관 완료: rows={}", updated);
+        } catch (Exception e) {
+            // 이관 실패해도 기동은 계속 (이관 안 된 행은 bbox가 null로 조회됨)
+            log.error("bbox 컬럼 이관 실패", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.privacy.privacyplatform.video.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * AI 발송 outbox claim / 결과 기록
+ * - 여러 노드의 dispatcher가 SKIP LOCKED 로 서로 다른 행을 가져감
+ * - 가져간 행은 next_attempt_at 을 lease 만료 시각으로 미뤄 두고 바로 커밋 (발송 중에 DB 락을 잡지 않음)
+ * - 노드가 발송 중에 죽으면 lease 가 지난 뒤 다른 노드가 다시 가져감
+ * - 결과 기록은 claim 때의 attempts 가 그대로이고 아직 PENDING 일 때만 (lease 만료 후 다시 가져갔거나
+ *   재처리로 대체/갱신된 행에 늦게 온 결과를 덮어쓰지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AIDispatchJdbcRepository {
+
+    private static final String CLAIM_SQL =
+            "SELECT id FROM ai_dispatch_outbox WHERE status = 'PENDING' AND next_attempt_at <= ? " +
+                    "ORDER BY next_attempt_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String LEASE_SQL =
+            "UPDATE ai_dispatch_outbox SET attempts = attempts + 1, next_attempt_at = ? WHERE id = ?";
+
+    private static final String SELECT_CLAIMED_SQL =
+            "SELECT o.id, v.video_id, o.original_key, o.processed_key, o.masking_options, o.attempts, o.created_at " +
+                    "FROM ai_dispatch_outbox o JOIN videos v ON v.id = o.video_id WHERE o.id IN (%s) ORDER BY o.id";
+
+    private static final String SENT_SQL =
+            "UPDATE ai_dispatch_outbox SET status = 'SENT', sent_at = ?, last_error = NULL " +
+                    "WHERE id = ? AND attempts = ? AND status = 'PENDING'";
+
+    private static final String RETRY_SQL =
+            "UPDATE ai_dispatch_outbox SET next_attempt_at = ?, last_error = ? " +
+                    "WHERE id = ? AND attempts = ? AND status = 'PENDING'";
+
+    private static final String FAILED_SQL =
+            "UPDATE ai_dispatch_outbox SET status = 'FAILED', last_error = ? " +
+                    "WHERE id = ? AND attempts = ? AND status = 'PENDING'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 발송할 행을 최대 limit 개 가져감
+     */
+    @Transactional
+    public List<AIDispatchRow> claim(int limit, LocalDateTime leaseUntil) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = jdbcTemplate.queryForList(CLAIM_SQL, Long.class, now, limit);
+        if (ids.isEmpty()) return Collections.emptyList();
+
+        Timestamp lease = Timestamp.valueOf(leaseUntil);
+        jdbcTemplate.batchUpdate(LEASE_SQL, ids, ids.size(), (ps, id) -> {
+            ps.setTimestamp(1, lease);
+            ps.setLong(2, id);
+        });
+
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.query(String.format(SELECT_CLAIMED_SQL, placeholders),
+                (rs, rowNum) -> new AIDispatchRow(
+                        rs.getLong("id"),
+                        rs.getString("video_id"),
+                        rs.getString("original_key"),
+                        rs.getString("processed_key"),
+                        rs.getString("masking_options"),
+                        rs.getInt("attempts"),
+                        rs.getTimestamp("created_at").toLocalDateTime()),
+                ids.toArray());
+    }
+
+    /**
+     * 아래 결과 기록은 모두 claim 한 행이 그대로일 때만 반영, 반영했으면 true
+     */
+    public boolean markSent(AIDispatchRow row) {
+        return jdbcTemplate.update(SENT_SQL, Timestamp.valueOf(LocalDateTime.now()), row.getId(), row.getAttempts()) > 0;
+    }
+
+    public boolean reschedule(AIDispatchRow row, LocalDateTime nextAttemptAt, String error) {
+        return jdbcTemplate.update(RETRY_SQL, Timestamp.valueOf(nextAttemptAt), truncate(error),
+                row.getId(), row.getAttempts()) > 0;
+    }
+
+    public boolean markFailed(AIDispatchRow row, String error) {
+        return jdbcTemplate.update(FAILED_SQL, truncate(error), row.getId(), row.getAttempts()) > 0;
+    }
+
+    private String truncate(String error) {
+        if (error == null) return null;
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -0,0 +1,32 @@
+package com.privacy.privacyplatform.video.repository;
+
+import com.privacy.privacyplatform.video.entity.AIDispatchOutbox;
+import com.privacy.privacyplatform.video.entity.Video;
+import com.privacy.privacyplatform.video.entity.enums.DispatchStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface AIDispatchOutboxRepository extends JpaRepository<AIDispatchOutbox, Long> {
+
+    Optional<AIDispatchOutbox> findFirstByVideoAndStatusAndNextAttemptAtLessThanEqual(
+            Video video, DispatchStatus status, LocalDateTime now);
+
+    /**
+     * 재사용하지 않는 대기 행을 대체 처리 (keepId 제외, null 이면 전부)
+     */
+    @Modifying
+    @Query("UPDATE AIDispatchOutbox o SET o.status = com.privacy.privacyplatform.video.entity.enums.DispatchStatus.SUPERSEDED " +
+            "WHERE o.video = :video AND o.status = com.privacy.privacyplatform.video.entity.enums.DispatchStatus.PENDING " +
+            "AND (:keepId IS NULL OR o.id <> :keepId)")
+    int supersedePending(Video video, Long keepId);
+
+    @Modifying
+    @Query("DELETE FROM AIDispatchOutbox o WHERE o.video = :video")
+    void deleteByVideo(Video video);
+}
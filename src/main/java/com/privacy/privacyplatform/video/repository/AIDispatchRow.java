@@ -0,0 +1,22 @@
+package com.privacy.privacyplatform.video.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송할 outbox 행 (claim 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class AIDispatchRow {
+    private final Long id;
+    private final String videoId;
+    private final String originalKey;
+    private final String processedKey;
+    private final String maskingOptions;
+    // 이번 시도 포함
+    private final int attempts;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,28 @@
+package com.privacy.privacyplatform.video.repository;
+
+import com.privacy.privacyplatform.video.entity.CallbackChunk;
+import com.privacy.privacyplatform.video.entity.Video;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CallbackChunkRepository extends JpaRepository<CallbackChunk, Long> {
+
+    boolean existsByVideoAndSequence(Video video, Integer sequence);
+
+    long countByVideo(Video video);
+
+    // 완료 판정: 0..lastSequence 범위의 서로 다른 sequence 수 ((video, sequence) 유니크)
+    long countByVideoAndSequenceLessThanEqual(Video video, Integer sequence);
+
+    // 프레임 구간 [frameStart, frameEnd] 와 겹치는 청크가 이미 있는지
+    @Query("SELECT COUNT(c) > 0 FROM CallbackChunk c WHERE c.video = :video"
+            + " AND c.frameStart <= :frameEnd AND c.frameEnd >= :frameStart")
+    boolean existsOverlapping(Video video, Integer frameStart, Integer frameEnd);
+
+    @Modifying
+    @Query("DELETE FROM CallbackChunk c WHERE c.video = :video")
+    void deleteByVideo(Video video);
+}
@@ -0,0 +1,18 @@
+package com.privacy.privacyplatform.video.repository;
+
+import com.privacy.privacyplatform.video.entity.CallbackReceipt;
+import com.privacy.privacyplatform.video.entity.Video;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CallbackReceiptRepository extends JpaRepository<CallbackReceipt, Long> {
+
+    boolean existsByDedupeKey(String dedupeKey);
+
+    @Modifying
+    @Query("DELETE FROM CallbackReceipt r WHERE r.video = :video")
+    void deleteByVideo(Video video);
+}
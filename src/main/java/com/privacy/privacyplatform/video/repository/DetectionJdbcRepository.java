@@ -0,0 +1,133 @@
+package com.privacy.privacyplatform.video.repository;
+
+import com.privacy.privacyplatform.video.entity.Detection;
+import com.privacy.privacyplatform.video.entity.DetectionTrack;
+import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 탐지 결과 대량 저장/내보내기용 JDBC 리포지토리
+ * (IDENTITY 키라 Hibernate 배치가 안 되므로 영속성 컨텍스트를 거치지 않고 직접 배치 INSERT)
+ * (내보내기는 fetch size 단위로 커서를 넘기며 한 행씩 전달 - 결과 전체를 메모리에 올리지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DetectionJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO detections (video_id, class_id, label, object_type, confidence, " +
+                    "bbox_x1, bbox_x2, bbox_y1, bbox_y2, frame_number, timestamp_ms, masking_applied, detected_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_ROWS_SQL =
+            "SELECT id, class_id, label, object_type, confidence, bbox_x1, bbox_x2, bbox_y1, bbox_y2, " +
+                    "frame_number, timestamp_ms, masking_applied " +
+                    "FROM detections WHERE video_id = ? ORDER BY frame_number, id";
+
+    private static final String SELECT_SEGMENTS_SQL =
+            "SELECT payload FROM detection_segments WHERE video_id = ? ORDER BY frame_start, id";
+
+    private static final String SELECT_TRACKS_SQL =
+            "SELECT class_id, label, object_type, start_frame, end_frame, avg_confidence, keyframes, gaps " +
+                    "FROM detection_tracks WHERE video_id = ? ORDER BY start_frame, id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.detection.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.detection.export-fetch-size:1000}")
+    private int exportFetchSize;
+
+    /**
+     * videoPk(videos.id)에 탐지 결과를 batchSize 단위로 나눠 배치 INSERT
+     */
+    public int batchInsert(Long videoPk, List<Detection> detections) {
+        if (detections.isEmpty()) return 0;
+
+        Timestamp detectedAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, detections, batchSize, (ps, d) -> {
+            ps.setLong(1, videoPk);
+            ps.setObject(2, d.getClassId(), Types.INTEGER);
+            ps.setString(3, d.getLabel());
+            ps.setString(4, d.getObjectType().name());
+            ps.setObject(5, d.getConfidence(), Types.FLOAT);
+            ps.setObject(6, d.getBboxX1(), Types.INTEGER);
+            ps.setObject(7, d.getBboxX2(), Types.INTEGER);
+            ps.setObject(8, d.getBboxY1(), Types.INTEGER);
+            ps.setObject(9, d.getBboxY2(), Types.INTEGER);
+            ps.setObject(10, d.getFrameNumber(), Types.INTEGER);
+            ps.setObject(11, d.getTimestampMs(), Types.INTEGER);
+            ps.setBoolean(12, Boolean.TRUE.equals(d.getMaskingApplied()));
+            ps.setTimestamp(13, detectedAt);
+        });
+
+        return detections.size();
+    }
+
+    /**
+     * ROWS 저장 탐지 결과를 (frame_number, id) 순으로 한 행씩 전달
+     */
+    public void streamByVideo(Long videoPk, Consumer<Detection> consumer) {
+        stream(SELECT_ROWS_SQL, videoPk, rs -> consumer.accept(Detection.builder()
+                .id(rs.getLong("id"))
+                .classId(rs.getObject("class_id", Integer.class))
+                .label(rs.getString("label"))
+                .objectType(ObjectType.valueOf(rs.getString("object_type")))
+                .confidence(rs.getObject("confidence", Float.class))
+                .bboxX1(rs.getObject("bbox_x1", Integer.class))
+                .bboxX2(rs.getObject("bbox_x2", Integer.class))
+                .bboxY1(rs.getObject("bbox_y1", Integer.class))
+                .bboxY2(rs.getObject("bbox_y2", Integer.class))
+                .frameNumber(rs.getObject("frame_number", Integer.class))
+                .timestampMs(rs.getObject("timestamp_ms", Integer.class))
+                .maskingApplied(rs.getBoolean("masking_applied"))
+                .build()));
+    }
+
+    /**
+     * COLUMNAR 저장 구간 blob을 frame 순으로 하나씩 전달
+     */
+    public void streamSegmentPayloads(Long videoPk, Consumer<byte[]> consumer) {
+        stream(SELECT_SEGMENTS_SQL, videoPk, rs -> consumer.accept(rs.getBytes("payload")));
+    }
+
+    /**
+     * TRACKS 저장 트랙을 시작 frame 순으로 하나씩 전달
+     */
+    public void streamTracks(Long videoPk, Consumer<DetectionTrack> consumer) {
+        stream(SELECT_TRACKS_SQL, videoPk, rs -> consumer.accept(DetectionTrack.builder()
+                .classId(rs.getObject("class_id", Integer.class))
+                .label(rs.getString("label"))
+                .objectType(ObjectType.valueOf(rs.getString("object_type")))
+                .startFrame(rs.getInt("start_frame"))
+                .endFrame(rs.getInt("end_frame"))
+                .avgConfidence(rs.getObject("avg_confidence", Float.class))
+                .keyframes(rs.getBytes("keyframes"))
+                .gaps(rs.getBytes("gaps"))
+                .build()));
+    }
+
+    // 전진 전용 커서 + fetch size (MariaDB 드라이버는 fetch size 단위로 나눠 읽음)
+    private void stream(String sql, Long videoPk, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(exportFetchSize);
+            ps.setLong(1, videoPk);
+            return ps;
+        }, handler);
+    }
+}
@@ -3,9 +3,13 @@ package com.privacy.privacyplatform.video.repository;
 import com.privacy.privacyplatform.video.entity.Detection;
 import com.privacy.privacyplatform.video.entity.Video;
 import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +20,27 @@ public interface DetectionRepository extends JpaRepository<Detection, Long> {
     List<Detection> findByVideoAndObjectType(Video video, ObjectType objectType);
 
     Long countByVideo(Video video);
+
+    @Modifying
+    @Query("DELETE FROM Detection d WHERE d.video = :video")
+    void deleteByVideo(Video video);
+
+    // 프레임 구간 조회: idx_detections_video_frame (video_id, frame_number) + PK 순서로 키셋 페이지네이션
+    @Query("SELECT d FROM Detection d " +
+            "WHERE d.video = :video AND d.frameNumber IS NOT NULL " +
+            "AND (:fromFrame IS NULL OR d.frameNumber >= :fromFrame) " +
+            "AND (:toFrame IS NULL OR d.frameNumber <= :toFrame) " +
+            "AND (:objectType IS NULL OR d.objectType = :objectType) " +
+            "AND (:classId IS NULL OR d.classId = :classId) " +
+            "AND (:minConfidence IS NULL OR d.confidence >= :minConfidence) " +
+            "AND (:afterFrame IS NULL OR d.frameNumber > :afterFrame " +
+            "     OR (d.frameNumber = :afterFrame AND d.id > :afterId)) " +
+            "ORDER BY d.frameNumber ASC, d.id ASC")
+    List<Detection> findFrameRange(Video video, Integer fromFrame, Integer toFrame, ObjectType objectType,
+                                   Integer classId, Float minConfidence, Integer afterFrame, Long afterId,
+                                   Pageable pageable);
+
+    // 목록 조회용 (total_detections가 비어 있는 기존 비디오만)
+    @Query("SELECT d.video.id, COUNT(d) FROM Detection d WHERE d.video.id IN :videoPks GROUP BY d.video.id")
+    List<Object[]> countGroupByVideoPks(Collection<Long> videoPks);
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.privacy.privacyplatform.video.repository;
+
+import com.privacy.privacyplatform.video.entity.DetectionSegment;
+import com.privacy.privacyplatform.video.entity.Video;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DetectionSegmentRepository extends JpaRepository<DetectionSegment, Long> {
+
+    List<DetectionSegment> findByVideoOrderByFrameStartAscIdAsc(Video video);
+
+    // 프레임 구간과 겹치는 segment (frame_start 순)
+    @Query("SELECT s FROM DetectionSegment s " +
+            "WHERE s.video = :video AND s.frameStart IS NOT NULL " +
+            "AND (:toFrame IS NULL OR s.frameStart <= :toFrame) " +
+            "AND (:fromFrame IS NULL OR s.frameEnd >= :fromFrame) " +
+            "ORDER BY s.frameStart ASC, s.id ASC")
+    List<DetectionSegment> findOverlapping(Video video, Integer fromFrame, Integer toFrame, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM DetectionSegment s WHERE s.video = :video")
+    void deleteByVideo(Video video);
+}
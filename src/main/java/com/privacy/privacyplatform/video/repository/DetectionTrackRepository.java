@@ -0,0 +1,33 @@
+package com.privacy.privacyplatform.video.repository;
+
+import com.privacy.privacyplatform.video.entity.DetectionTrack;
+import com.privacy.privacyplatform.video.entity.Video;
+import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DetectionTrackRepository extends JpaRepository<DetectionTrack, Long> {
+
+    List<DetectionTrack> findByVideoOrderByStartFrameAscIdAsc(Video video);
+
+    // 프레임 구간과 겹치는 트랙 (start_frame 순)
+    @Query("SELECT t FROM DetectionTrack t " +
+            "WHERE t.video = :video " +
+            "AND (:toFrame IS NULL OR t.startFrame <= :toFrame) " +
+            "AND (:fromFrame IS NULL OR t.endFrame >= :fromFrame) " +
+            "AND (:objectType IS NULL OR t.objectType = :objectType) " +
+            "AND (:classId IS NULL OR t.classId = :classId) " +
+            "ORDER BY t.startFrame ASC, t.id ASC")
+    List<DetectionTrack> findOverlapping(Video video, Integer fromFrame, Integer toFrame,
+                                         ObjectType objectType, Integer classId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM DetectionTrack t WHERE t.video = :video")
+    void deleteByVideo(Video video);
+}
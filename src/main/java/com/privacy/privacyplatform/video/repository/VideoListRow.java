@@ -0,0 +1,35 @@
+package com.privacy.privacyplatform.video.repository;
+
+import com.privacy.privacyplatform.video.entity.enums.DetectionStorageMode;
+import com.privacy.privacyplatform.video.entity.enums.ProcessStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비디오 목록 조회용 projection (detections 컬렉션/연관 엔티티를 읽지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class VideoListRow {
+    private Long id;
+    private String videoId;
+    private String originalFilename;
+    private ProcessStatus status;
+    private Long fileSizeBytes;
+    private Integer frameCount;
+    private Integer processingTimeMs;
+    private Integer totalDetections;
+    private Integer uniqueFaceCount;
+    private Integer uniquePlateCount;
+    private Integer uniqueCustomCount;
+    private DetectionStorageMode detectionStorage;
+    private Long confidenceCount;
+    private Double confidenceSum;
+    private String s3OriginalPath;
+    private String s3ProcessedPath;
+    private LocalDateTime uploadedAt;
+    private LocalDateTime processedAt;
+    private LocalDateTime createdAt;
+}
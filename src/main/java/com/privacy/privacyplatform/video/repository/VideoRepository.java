@@ -2,9 +2,15 @@ package com.privacy.privacyplatform.video.repository;
 
 import com.privacy.privacyplatform.video.entity.Video;
 import com.privacy.privacyplatform.video.entity.enums.ProcessStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,8 +18,68 @@ import java.util.Optional;
 public interface VideoRepository extends JpaRepository<Video, Long> {
     Optional<Video> findByVideoId(String videoId);
 
+    // 소유자 확인 조회: video_id + user_id 조건 한 번 (User 프록시 초기화 없음)
+    Optional<Video> findByVideoIdAndUserId(String videoId, Long userPk);
+
+    // 청크 콜백 동시 수신 시 카운터 갱신 직렬화용
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM Video v WHERE v.videoId = :videoId")
+    Optional<Video> findByVideoIdForUpdate(String videoId);
+
     List<Video> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    // 목록 조회: 필요한 컬럼만 읽고 (created_at, id) 키셋으로 다음 페이지 조회
+    @Query("SELECT new com.privacy.privacyplatform.video.repository.VideoListRow(" +
+            "v.id, v.videoId, v.originalFilename, v.status, v.fileSizeBytes, v.frameCount, v.processingTimeMs, " +
+            "v.totalDetections, v.uniqueFaceCount, v.uniquePlateCount, v.uniqueCustomCount, v.detectionStorage, " +
+            "v.detectionStats.confidenceCount, v.detectionStats.confidenceSum, " +
+            "v.s3OriginalPath, v.s3ProcessedPath, v.uploadedAt, v.processedAt, v.createdAt) " +
+            "FROM Video v " +
+            "WHERE v.user.id = :userPk " +
+            "AND (:status IS NULL OR v.status = :status) " +
+            "AND (:cursorCreatedAt IS NULL OR v.createdAt < :cursorCreatedAt " +
+            "     OR (v.createdAt = :cursorCreatedAt AND v.id < :cursorId)) " +
+            "ORDER BY v.createdAt DESC, v.id DESC")
+    List<VideoListRow> findListPage(Long userPk, ProcessStatus status,
+                                    LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable);
+
+    // 상태 폴링: video_id + 소유자 조건, 필요한 컬럼만
+    @Query("SELECT new com.privacy.privacyplatform.video.repository.VideoStatusRow(" +
+            "v.videoId, v.status, v.frameCount, v.processedFrameCount) " +
+            "FROM Video v WHERE v.videoId = :videoId AND v.user.id = :userPk")
+    Optional<VideoStatusRow> findStatusRow(String videoId, Long userPk);
+
+    // 일괄 상태 조회: 지정한 비디오 중 since 이후 바뀐 것만 (since 가 null 이면 전부)
+    @Query("SELECT new com.privacy.privacyplatform.video.repository.VideoStatusRow(" +
+            "v.videoId, v.status, v.frameCount, v.processedFrameCount) " +
+            "FROM Video v WHERE v.user.id = :userPk AND v.videoId IN :videoIds " +
+            "AND (:since IS NULL OR v.statusChangedAt > :since)")
+    List<VideoStatusRow> findStatusRows(Long userPk, Collection<String> videoIds, LocalDateTime since);
+
+    // 일괄 상태 조회: 처리 중인 내 비디오 전부
+    @Query("SELECT new com.privacy.privacyplatform.video.repository.VideoStatusRow(" +
+            "v.videoId, v.status, v.frameCount, v.processedFrameCount) " +
+            "FROM Video v WHERE v.user.id = :userPk AND v.status IN :statuses")
+    List<VideoStatusRow> findStatusRowsByStatus(Long userPk, Collection<ProcessStatus> statuses);
+
+    // 일괄 상태 조회: since 이후 바뀐 내 비디오 전부 (그사이 완료/실패로 바뀐 비디오 포함)
+    @Query("SELECT new com.privacy.privacyplatform.video.repository.VideoStatusRow(" +
+            "v.videoId, v.status, v.frameCount, v.processedFrameCount) " +
+            "FROM Video v WHERE v.user.id = :userPk AND v.statusChangedAt > :since")
+    List<VideoStatusRow> findStatusRowsChangedSince(Long userPk, LocalDateTime since);
+
+    // 결과 조건부 조회 (ETag): video_id 유니크 인덱스 한 번
+    @Query("SELECT new com.privacy.privacyplatform.video.repository.VideoVersionRow(" +
+            "v.videoId, v.user.id, v.status, v.processedAt, v.totalDetections) " +
+            "FROM Video v WHERE v.videoId = :videoId")
+    Optional<VideoVersionRow> findVersionRow(String videoId);
+
+    // 다운로드 URL 일괄 서명: 본인 비디오만 한 번에 조회
+    @Query("SELECT new com.privacy.privacyplatform.video.repository.VideoUrlRow(" +
+            "v.videoId, v.s3OriginalPath, v.s3ProcessedPath) " +
+            "FROM Video v WHERE v.user.id = :userPk AND v.videoId IN :videoIds")
+    List<VideoUrlRow> findUrlRows(Long userPk, Collection<String> videoIds);
+
     long countByUserId(Long userId);
 
     List<Video> findByUserIdOrderByUploadedAtDesc(Long userId);
@@ -0,0 +1,17 @@
+package com.privacy.privacyplatform.video.repository;
+
+import com.privacy.privacyplatform.video.entity.enums.ProcessStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상태 폴링용 projection (엔티티 / 연관 엔티티 로드 없음)
+ */
+@Getter
+@AllArgsConstructor
+public class VideoStatusRow {
+    private String videoId;
+    private ProcessStatus status;
+    private Integer frameCount;
+    private Integer processedFrameCount;
+}
@@ -0,0 +1,15 @@
+package com.privacy.privacyplatform.video.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 다운로드 URL 서명용 projection (S3 키만 읽음)
+ */
+@Getter
+@AllArgsConstructor
+public class VideoUrlRow {
+    private String videoId;
+    private String s3OriginalPath;
+    private String s3ProcessedPath;
+}
@@ -0,0 +1,20 @@
+package com.privacy.privacyplatform.video.repository;
+
+import com.privacy.privacyplatform.video.entity.enums.ProcessStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결과 ETag 계산용 projection (videos 행만 읽음, detections 로드 없음)
+ */
+@Getter
+@AllArgsConstructor
+public class VideoVersionRow {
+    private String videoId;
+    private Long ownerUserPk;
+    private ProcessStatus status;
+    private LocalDateTime processedAt;
+    private Integer totalDetections;
+}
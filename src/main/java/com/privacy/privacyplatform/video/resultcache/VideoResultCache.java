@@ -0,0 +1,90 @@
+package com.privacy.privacyplatform.video.resultcache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.privacy.privacyplatform.storage.service.S3Service;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 완료된 비디오 결과 응답(JSON 직렬화본) 캐시
+ * - 용량은 본문 바이트 합으로 제한, 축출은 Caffeine W-TinyLFU (자주 보는 비디오가 남음)
+ * - 본문에 Pre-signed URL이 들어 있어서 URL 최소 유효시간보다 짧게 보관
+ * - 캐시에서 꺼낼 때는 DB 조회/직렬화 없이 소유자만 확인
+ */
+@Component
+public class VideoResultCache {
+
+    // 항목당 본문 외 고정 비용 (키, 항목 객체 등) 추정치
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final Cache<String, Entry> cache;
+    private final long maxEntryBytes;
+    private final Duration ttl;
+
+    /**
+     * 캐시 항목 (ETag 계산에 필요한 버전 정보 포함)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final Long ownerUserPk;
+        private final LocalDateTime processedAt;
+        private final Integer totalDetections;
+        private final byte[] json;
+    }
+
+    public VideoResultCache(
+            @Value("${app.result-cache.max-bytes:268435456}") long maxBytes,
+            @Value("${app.result-cache.ttl-minutes:5}") long ttlMinutes,
+            S3Service s3Service,
+            MeterRegistry meterRegistry) {
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        if (ttl.compareTo(s3Service.getMinDownloadUrlValidity()) >= 0) {
+            throw new IllegalStateException("결과 캐시 TTL은 다운로드 URL 최소 유효시간보다 짧아야 합니다");
+        }
+        // 한 비디오가 캐시 대부분을 차지하지 않도록
+        this.maxEntryBytes = maxBytes / 8;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String videoId, Entry entry) -> entry.getJson().length + ENTRY_OVERHEAD_BYTES)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "video.result");
+        Gauge.builder("video.result.cache.bytes", cache,
+                        c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .description("캐시된 결과 응답 본문 크기 합")
+                .register(meterRegistry);
+    }
+
+    public Entry get(String videoId) {
+        return cache.getIfPresent(videoId);
+    }
+
+    public void put(String videoId, Entry entry) {
+        if (entry.getJson().length > maxEntryBytes) return;
+        cache.put(videoId, entry);
+    }
+
+    /**
+     * 비디오 삭제 / 재처리 시 호출
+     */
+    public void invalidate(String videoId) {
+        cache.invalidate(videoId);
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+}
@@ -0,0 +1,72 @@
+package com.privacy.privacyplatform.video.service;
+
+import com.privacy.privacyplatform.video.codec.TrackKeyframeCodec;
+import com.privacy.privacyplatform.video.dto.response.VideoResultResponse;
+import com.privacy.privacyplatform.video.entity.Detection;
+import com.privacy.privacyplatform.video.entity.DetectionTrack;
+
+import java.util.List;
+
+/**
+ * 저장 방식별 탐지 결과 → DetectionDto 변환
+ */
+final class DetectionDtoMapper {
+
+    private DetectionDtoMapper() {
+    }
+
+    /**
+     * Detection → DetectionDto 변환
+     */
+    static VideoResultResponse.DetectionDto fromEntity(Detection detection) {
+        return VideoResultResponse.DetectionDto.builder()
+                .id(detection.getId())
+                .classId(detection.getClassId())
+                .label(detection.getLabel())
+                .objectType(detection.getObjectType().name())
+                .confidence(detection.getConfidence())
+                .bbox(detection.getBbox())
+                .frameNumber(detection.getFrameNumber())
+                .timestampMs(detection.getTimestampMs())
+                .maskingApplied(detection.getMaskingApplied())
+                .build();
+    }
+
+    /**
+     * 트랙 → 프레임별 DetectionDto (키프레임 사이 bbox는 선형 보간, confidence는 트랙 평균)
+     * 실제로 탐지된 프레임만 만듦 (gap 프레임 제외)
+     * [fromFrame, toFrame] 밖의 프레임은 만들지 않음 (null 이면 제한 없음)
+     */
+    static void expandTrack(DetectionTrack track, Integer fromFrame, Integer toFrame,
+                            List<VideoResultResponse.DetectionDto> out) {
+        List<int[]> keyframes = TrackKeyframeCodec.unpack(track.getKeyframes());
+        if (keyframes.isEmpty()) return;
+
+        int from = keyframes.get(0)[0];
+        int to = keyframes.get(keyframes.size() - 1)[0];
+        if (fromFrame != null) from = Math.max(from, fromFrame);
+        if (toFrame != null) to = Math.min(to, toFrame);
+
+        List<int[]> gaps = TrackKeyframeCodec.unpackGaps(track.getGaps());
+        int gapIdx = 0;
+
+        for (int frame = from; frame <= to; frame++) {
+            while (gapIdx < gaps.size() && gaps.get(gapIdx)[1] < frame) gapIdx++;
+            if (gapIdx < gaps.size() && gaps.get(gapIdx)[0] <= frame) {
+                frame = gaps.get(gapIdx)[1];
+                continue;
+            }
+
+            int[] bbox = TrackKeyframeCodec.interpolate(keyframes, frame);
+            out.add(VideoResultResponse.DetectionDto.builder()
+                    .classId(track.getClassId())
+                    .label(track.getLabel())
+                    .objectType(track.getObjectType().name())
+                    .confidence(track.getAvgConfidence())
+                    .bbox(List.of(bbox[0], bbox[1], bbox[2], bbox[3]))
+                    .frameNumber(frame)
+                    .maskingApplied(true)
+                    .build());
+        }
+    }
+}
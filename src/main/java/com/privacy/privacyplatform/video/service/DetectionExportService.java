@@ -0,0 +1,110 @@
+package com.privacy.privacyplatform.video.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.privacy.privacyplatform.video.codec.DetectionColumnarCodec;
+import com.privacy.privacyplatform.video.dto.response.VideoResultResponse;
+import com.privacy.privacyplatform.video.entity.Video;
+import com.privacy.privacyplatform.video.entity.enums.DetectionStorageMode;
+import com.privacy.privacyplatform.video.repository.DetectionJdbcRepository;
+import com.privacy.privacyplatform.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 탐지 결과 NDJSON 내보내기 (한 줄에 DetectionDto 하나)
+ * - DB 커서를 fetch size 단위로 넘기면서 바로 응답에 씀 - 메모리 사용량이 탐지 수와 무관
+ * - ROWS / COLUMNAR 는 frame 순, TRACKS 는 트랙 단위 순서 (트랙 안에서는 frame 순)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DetectionExportService {
+
+    // 이 개수마다 flush (첫 줄은 바로 flush 해서 쿼리 완료 전에 응답 시작)
+    private static final int FLUSH_EVERY = 500;
+
+    private final VideoRepository videoRepository;
+    private final DetectionJdbcRepository detectionJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 소유자 확인 후 응답 본문 생성 (확인은 요청 스레드에서, 쓰기는 비동기 스레드에서)
+     *
+     * @param userPk 요청 사용자 users.id
+     */
+    public StreamingResponseBody prepareExport(String videoId, Long userPk) {
+        Video video = videoRepository.findByVideoIdAndUserId(videoId, userPk)
+                .orElseThrow(() -> videoRepository.existsByVideoId(videoId)
+                        ? new RuntimeException("본인의 비디오만 조회할 수 있습니다")
+                        : new RuntimeException("Video not found: " + videoId));
+
+        Long videoPk = video.getId();
+        DetectionStorageMode mode = video.getDetectionStorage() != null
+                ? video.getDetectionStorage()
+                : DetectionStorageMode.ROWS;
+
+        return out -> export(videoId, videoPk, mode, out);
+    }
+
+    private void export(String videoId, Long videoPk, DetectionStorageMode mode, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        long[] written = {0};
+
+        try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+            try {
+                if (mode == DetectionStorageMode.COLUMNAR) {
+                    detectionJdbcRepository.streamSegmentPayloads(videoPk, payload -> {
+                        for (VideoResultResponse.DetectionDto dto : DetectionColumnarCodec.decode(payload)) {
+                            writeLine(writer, out, dto, written);
+                        }
+                    });
+                } else if (mode == DetectionStorageMode.TRACKS) {
+                    List<VideoResultResponse.DetectionDto> frames = new ArrayList<>();
+                    detectionJdbcRepository.streamTracks(videoPk, track -> {
+                        frames.clear();
+                        DetectionDtoMapper.expandTrack(track, null, null, frames);
+                        for (VideoResultResponse.DetectionDto dto : frames) {
+                            writeLine(writer, out, dto, written);
+                        }
+                    });
+                } else {
+                    detectionJdbcRepository.streamByVideo(videoPk,
+                            detection -> writeLine(writer, out, DetectionDtoMapper.fromEntity(detection), written));
+                }
+            } catch (UncheckedIOException e) {
+                // 클라이언트가 연결을 끊은 경우 등
+                throw e.getCause();
+            }
+            if (written[0] > 0) {
+                writer.flush();
+                out.write('\n');
+            }
+        }
+
+        log.info("탐지 결과 내보내기 완료: videoId={}, mode={}, detections={}, elapsedMs={}",
+                videoId, mode, written[0], System.currentTimeMillis() - start);
+    }
+
+    private void writeLine(SequenceWriter writer, OutputStream out,
+                           VideoResultResponse.DetectionDto dto, long[] written) {
+        try {
+            writer.write(dto);
+            written[0]++;
+            if (written[0] == 1 || written[0] % FLUSH_EVERY == 0) {
+                writer.flush();
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.privacy.privacyplatform.video.service;
+
+import com.privacy.privacyplatform.external.ai.dto.AICallbackRequest;
+import com.privacy.privacyplatform.video.codec.DetectionColumnarCodec;
+import com.privacy.privacyplatform.video.entity.Detection;
+import com.privacy.privacyplatform.video.entity.DetectionSegment;
+import com.privacy.privacyplatform.video.entity.DetectionTrack;
+import com.privacy.privacyplatform.video.entity.Video;
+import com.privacy.privacyplatform.video.entity.enums.DetectionStorageMode;
+import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+import com.privacy.privacyplatform.video.repository.DetectionJdbcRepository;
+import com.privacy.privacyplatform.video.repository.DetectionSegmentRepository;
+import com.privacy.privacyplatform.video.repository.DetectionTrackRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 탐지 결과 대량 저장 (JDBC 배치 INSERT / 컬럼 압축 구간 / 객체 트랙)
+ */
+@Slf4j
+@Service
+public class DetectionIngestService {
+
+    private final DetectionJdbcRepository detectionJdbcRepository;
+    private final DetectionSegmentRepository detectionSegmentRepository;
+    private final DetectionTrackRepository detectionTrackRepository;
+    private final int batchSize;
+    private final DetectionStorageMode storageMode;
+    private final int trackTolerance;
+    private final int trackMaxFrameGap;
+    private final double trackMinIou;
+
+    private final Counter ingestedRows;
+    private final Timer ingestTimer;
+
+    public DetectionIngestService(
+            DetectionJdbcRepository detectionJdbcRepository,
+            DetectionSegmentRepository detectionSegmentRepository,
+            DetectionTrackRepository detectionTrackRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.detection.batch-size:1000}") int batchSize,
+            @Value("${app.detection.storage-mode:ROWS}") DetectionStorageMode storageMode,
+            @Value("${app.detection.track.bbox-tolerance:8}") int trackTolerance,
+            @Value("${app.detection.track.max-frame-gap:3}") int trackMaxFrameGap,
+            @Value("${app.detection.track.min-iou:0.1}") double trackMinIou) {
+        this.detectionJdbcRepository = detectionJdbcRepository;
+        this.detectionSegmentRepository = detectionSegmentRepository;
+        this.detectionTrackRepository = detectionTrackRepository;
+        this.batchSize = batchSize;
+        this.storageMode = storageMode;
+        this.trackTolerance = trackTolerance;
+        this.trackMaxFrameGap = trackMaxFrameGap;
+        this.trackMinIou = trackMinIou;
+        // rows/sec = rate(detection.ingest.rows)
+        this.ingestedRows = Counter.builder("detection.ingest.rows")
+                .description("저장 처리된 탐지 결과 수")
+                .register(meterRegistry);
+        this.ingestTimer = Timer.builder("detection.ingest.duration")
+                .description("탐지 결과 배치 저장 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 번에 받은 탐지 결과 저장 (writer 열기 → 쓰기 → 닫기)
+     */
+    public int ingest(Video video, List<AICallbackRequest.DetectionResult> items) {
+        if (items == null || items.isEmpty()) return 0;
+
+        DetectionWriter writer = openWriter(video);
+        writer.write(items);
+        return writer.finish();
+    }
+
+    /**
+     * 수집 세션 시작 (스트리밍 콜백처럼 배치가 여러 번 나눠 들어올 때 사용)
+     * 저장 방식은 비디오 단위로 고정 (청크 콜백 도중 설정이 바뀌어도 섞이지 않도록)
+     */
+    public DetectionWriter openWriter(Video video) {
+        if (video.getDetectionStorage() == null) {
+            video.setDetectionStorage(storageMode);
+        }
+        return new DetectionWriter(video, video.getDetectionStorage());
+    }
+
+    /**
+     * 탐지 결과 수집 세션 (스레드 안전하지 않음)
+     * - ROWS: batchSize 청크마다 배치 INSERT
+     * - COLUMNAR: batchSize 청크마다 압축 구간(detection_segments) 1행
+     * - TRACKS: 객체 트랙으로 묶어서 닫힌 트랙만 저장 (finish 시 남은 트랙 저장)
+     */
+    public class DetectionWriter {
+
+        private final Video video;
+        private final DetectionStorageMode mode;
+        private final DetectionTrackCompressor tracker;
+        private final DetectionStatsAccumulator stats = new DetectionStatsAccumulator();
+
+        private int received = 0;
+        private int storedRows = 0;
+        private long elapsedNanos = 0;
+
+        private DetectionWriter(Video video, DetectionStorageMode mode) {
+            this.video = video;
+            this.mode = mode;
+            this.tracker = mode == DetectionStorageMode.TRACKS
+                    ? new DetectionTrackCompressor(video, trackTolerance, trackMaxFrameGap, trackMinIou,
+                            DetectionIngestService.this::labelToObjectType)
+                    : null;
+        }
+
+        /**
+         * 배치 저장, 받은 탐지 건수 반환
+         */
+        public int write(List<AICallbackRequest.DetectionResult> items) {
+            if (items == null || items.isEmpty()) return 0;
+
+            long start = System.nanoTime();
+            for (AICallbackRequest.DetectionResult item : items) {
+                stats.accept(labelToObjectType(item.getLabel()), item.getConfidence(), item.getFrameNumber());
+            }
+            for (int from = 0; from < items.size(); from += batchSize) {
+                List<AICallbackRequest.DetectionResult> chunk =
+                        items.subList(from, Math.min(from + batchSize, items.size()));
+
+                storedRows += switch (mode) {
+                    case ROWS -> saveRows(video, chunk);
+                    case COLUMNAR -> saveSegment(video, chunk);
+                    case TRACKS -> saveTracks(tracker.accept(chunk));
+                };
+            }
+            record(items.size(), System.nanoTime() - start);
+            return items.size();
+        }
+
+        /**
+         * 세션 종료, 세션 전체에서 받은 탐지 건수 반환
+         */
+        public int finish() {
+            if (tracker != null) {
+                long start = System.nanoTime();
+                storedRows += saveTracks(tracker.finish());
+                record(0, System.nanoTime() - start);
+                if (tracker.getSkipped() > 0) {
+                    log.warn("frame/bbox가 없어 트랙에서 제외된 탐지: videoId={}, count={}",
+                            video.getVideoId(), tracker.getSkipped());
+                }
+            }
+
+            video.addDetectionCount(received);
+            stats.mergeInto(video);
+
+            long elapsedMs = Math.max(1, elapsedNanos / 1_000_000);
+            log.info("탐지 결과 저장 완료: videoId={}, mode={}, detections={}, storedRows={}, elapsedMs={}, rowsPerSec={}",
+                    video.getVideoId(), mode, received, storedRows, elapsedMs, received * 1000L / elapsedMs);
+            return received;
+        }
+
+        private void record(int count, long nanos) {
+            received += count;
+            elapsedNanos += nanos;
+            ingestedRows.increment(count);
+            ingestTimer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private int saveRows(Video video, List<AICallbackRequest.DetectionResult> chunk) {
+        List<Detection> detections = new ArrayList<>(chunk.size());
+        for (AICallbackRequest.DetectionResult item : chunk) {
+            detections.add(toDetection(item));
+        }
+        return detectionJdbcRepository.batchInsert(video.getId(), detections);
+    }
+
+    private int saveSegment(Video video, List<AICallbackRequest.DetectionResult> chunk) {
+        int frameStart = Integer.MAX_VALUE;
+        int frameEnd = Integer.MIN_VALUE;
+        for (AICallbackRequest.DetectionResult item : chunk) {
+            if (item.getFrameNumber() == null) continue;
+            frameStart = Math.min(frameStart, item.getFrameNumber());
+            frameEnd = Math.max(frameEnd, item.getFrameNumber());
+        }
+
+        detectionSegmentRepository.save(DetectionSegment.builder()
+                .video(video)
+                .frameStart(frameStart == Integer.MAX_VALUE ? null : frameStart)
+                .frameEnd(frameEnd == Integer.MIN_VALUE ? null : frameEnd)
+                .rowCount(chunk.size())
+                .payload(DetectionColumnarCodec.encode(chunk, this::labelToObjectType))
+                .build());
+        return 1;
+    }
+
+    private int saveTracks(List<DetectionTrack> tracks) {
+        if (tracks.isEmpty()) return 0;
+        detectionTrackRepository.saveAll(tracks);
+        return tracks.size();
+    }
+
+    /**
+     * DetectionResult → Detection (영속화하지 않는 값 객체로만 사용)
+     */
+    private Detection toDetection(AICallbackRequest.DetectionResult item) {
+        Detection detection = Detection.builder()
+                .classId(item.getClassId())
+                .label(item.getLabel())
+                .objectType(labelToObjectType(item.getLabel()))
+                .confidence(item.getConfidence())
+                .frameNumber(item.getFrameNumber())
+                .maskingApplied(true)
+                .build();
+        detection.setBbox(item.getBbox());
+        return detection;
+    }
+
+    /**
+     * Label → ObjectType 변환
+     */
+    private ObjectType labelToObjectType(String label) {
+        if (label == null) return ObjectType.CUSTOM_OBJECT;
+
+        return switch (label.toLowerCase()) {
+            case "human head", "face" -> ObjectType.FACE;
+            case "license plate" -> ObjectType.LICENSE_PLATE;
+            default -> ObjectType.CUSTOM_OBJECT;
+        };
+    }
+}
@@ -0,0 +1,285 @@
+package com.privacy.privacyplatform.video.service;
+
+import com.privacy.privacyplatform.video.codec.DetectionColumnarCodec;
+import com.privacy.privacyplatform.video.dto.request.DetectionQueryRequest;
+import com.privacy.privacyplatform.video.dto.response.DetectionPageResponse;
+import com.privacy.privacyplatform.video.dto.response.VideoResultResponse;
+import com.privacy.privacyplatform.video.entity.Detection;
+import com.privacy.privacyplatform.video.entity.DetectionSegment;
+import com.privacy.privacyplatform.video.entity.DetectionTrack;
+import com.privacy.privacyplatform.video.entity.Video;
+import com.privacy.privacyplatform.video.entity.enums.DetectionStorageMode;
+import com.privacy.privacyplatform.video.entity.enums.ProcessStatus;
+import com.privacy.privacyplatform.video.frameindex.FrameIndex;
+import com.privacy.privacyplatform.video.repository.DetectionJdbcRepository;
+import com.privacy.privacyplatform.video.repository.DetectionRepository;
+import com.privacy.privacyplatform.video.repository.DetectionSegmentRepository;
+import com.privacy.privacyplatform.video.repository.DetectionTrackRepository;
+import com.privacy.privacyplatform.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 프레임 구간 / 조건별 탐지 결과 조회 (플레이어 seek 용)
+ * - ROWS: (video_id, frame_number) 인덱스 범위 스캔 + (frame, id) 키셋
+ * - COLUMNAR / TRACKS: 구간과 겹치는 segment/track만 읽어서 디코딩, (frame, 같은 frame에서 건너뛸 개수) 키셋
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DetectionQueryService {
+
+    private static final int DEFAULT_PAGE_SIZE = 200;
+    private static final int MAX_PAGE_SIZE = 1000;
+    // COLUMNAR / TRACKS 에서 한 번에 읽는 segment/track 수
+    private static final int SOURCE_FETCH_SIZE = 8;
+
+    private final VideoRepository videoRepository;
+    private final DetectionRepository detectionRepository;
+    private final DetectionSegmentRepository detectionSegmentRepository;
+    private final DetectionTrackRepository detectionTrackRepository;
+    private final DetectionJdbcRepository detectionJdbcRepository;
+
+    /**
+     * 탐지 결과 조회 (frame 순 페이지)
+     */
+    public DetectionPageResponse queryDetections(String videoId, Long userPk, DetectionQueryRequest query) {
+        log.info("탐지 결과 조회: videoId={}, frames=[{}, {}], objectType={}, classId={}, minConfidence={}",
+                videoId, query.getFromFrame(), query.getToFrame(),
+                query.getObjectType(), query.getClassId(), query.getMinConfidence());
+
+        Video video = videoRepository.findByVideoIdAndUserId(videoId, userPk)
+                .orElseThrow(() -> videoRepository.existsByVideoId(videoId)
+                        ? new RuntimeException("본인의 비디오만 조회할 수 있습니다")
+                        : new RuntimeException("Video not found: " + videoId));
+
+        int size = query.getSize() == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(query.getSize(), 1), MAX_PAGE_SIZE);
+        long[] cursor = decodeCursor(query.getCursor());
+
+        DetectionStorageMode mode = video.getDetectionStorage() != null
+                ? video.getDetectionStorage()
+                : DetectionStorageMode.ROWS;
+
+        return mode == DetectionStorageMode.ROWS
+                ? queryRows(video, query, size, cursor)
+                : queryDecoded(video, mode, query, size, cursor);
+    }
+
+    /**
+     * 저장 방식에 맞춰 비디오 전체 탐지 결과 로드 (COLUMNAR면 구간 blob을 바로 디코딩)
+     */
+    public List<VideoResultResponse.DetectionDto> loadAll(Video video) {
+        if (video.getDetectionStorage() == DetectionStorageMode.COLUMNAR) {
+            List<VideoResultResponse.DetectionDto> result = new ArrayList<>();
+            for (DetectionSegment segment : detectionSegmentRepository.findByVideoOrderByFrameStartAscIdAsc(video)) {
+                result.addAll(DetectionColumnarCodec.decode(segment.getPayload()));
+            }
+            return result;
+        }
+
+        if (video.getDetectionStorage() == DetectionStorageMode.TRACKS) {
+            List<VideoResultResponse.DetectionDto> result = new ArrayList<>();
+            for (DetectionTrack track : detectionTrackRepository.findByVideoOrderByStartFrameAscIdAsc(video)) {
+                DetectionDtoMapper.expandTrack(track, null, null, result);
+            }
+            result.sort(Comparator.comparing(VideoResultResponse.DetectionDto::getFrameNumber));
+            return result;
+        }
+
+        return video.getDetections().stream()
+                .map(DetectionDtoMapper::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 완료된 비디오의 프레임 인덱스 파일 생성, 소유자 users.id 반환
+     * - 트랜잭션 밖에서 실행: 탐지 결과는 JDBC 커서로 흘려 보내고 (목록으로 모으지 않음) 파일 쓰기도 트랜잭션과 무관
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long writeFrameIndex(String videoId, Path file) throws IOException {
+        Video video = videoRepository.findByVideoId(videoId)
+                .orElseThrow(() -> new RuntimeException("Video not found: " + videoId));
+
+        if (video.getStatus() != ProcessStatus.COMPLETED) {
+            throw new RuntimeException("처리가 완료된 비디오만 조회할 수 있습니다: " + videoId);
+        }
+
+        long ownerPk = video.getUser().getId();
+        Long videoPk = video.getId();
+        DetectionStorageMode mode = video.getDetectionStorage();
+        FrameIndex.write(file, ownerPk, sink -> streamAll(videoPk, mode, sink));
+        return ownerPk;
+    }
+
+    /**
+     * 저장 방식별 탐지 결과를 DB 커서로 하나씩 전달 (TRACKS 는 트랙 단위 순서)
+     */
+    private void streamAll(Long videoPk, DetectionStorageMode mode, Consumer<VideoResultResponse.DetectionDto> sink) {
+        if (mode == DetectionStorageMode.COLUMNAR) {
+            detectionJdbcRepository.streamSegmentPayloads(videoPk,
+                    payload -> DetectionColumnarCodec.decode(payload).forEach(sink));
+        } else if (mode == DetectionStorageMode.TRACKS) {
+            List<VideoResultResponse.DetectionDto> frames = new ArrayList<>();
+            detectionJdbcRepository.streamTracks(videoPk, track -> {
+                frames.clear();
+                DetectionDtoMapper.expandTrack(track, null, null, frames);
+                frames.forEach(sink);
+            });
+        } else {
+            detectionJdbcRepository.streamByVideo(videoPk,
+                    detection -> sink.accept(DetectionDtoMapper.fromEntity(detection)));
+        }
+    }
+
+    private DetectionPageResponse queryRows(Video video, DetectionQueryRequest query, int size, long[] cursor) {
+        List<Detection> rows = detectionRepository.findFrameRange(
+                video, query.getFromFrame(), query.getToFrame(), query.getObjectType(),
+                query.getClassId(), query.getMinConfidence(),
+                cursor != null ? (int) cursor[0] : null,
+                cursor != null ? cursor[1] : null,
+                PageRequest.of(0, size + 1));
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        Detection last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return DetectionPageResponse.builder()
+                .videoId(video.getVideoId())
+                .items(rows.stream().map(DetectionDtoMapper::fromEntity).collect(Collectors.toList()))
+                .nextCursor(hasNext ? encodeCursor(last.getFrameNumber(), last.getId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private DetectionPageResponse queryDecoded(Video video, DetectionStorageMode mode, DetectionQueryRequest query,
+                                               int size, long[] cursor) {
+        Integer fromFrame = query.getFromFrame();
+        int skip = 0;
+        if (cursor != null) {
+            fromFrame = fromFrame == null ? (int) cursor[0] : Math.max(fromFrame, (int) cursor[0]);
+            skip = (int) cursor[1];
+        }
+        Integer toFrame = query.getToFrame();
+
+        // 앞쪽 frame 부터 읽다가, 이번 페이지 마지막 frame 이후에 시작하는 segment/track이 나오면 중단
+        int needed = skip + size + 1;
+        List<VideoResultResponse.DetectionDto> collected = new ArrayList<>();
+        Integer thresholdFrame = null;
+        boolean done = false;
+
+        for (int page = 0; !done; page++) {
+            PageRequest pageRequest = PageRequest.of(page, SOURCE_FETCH_SIZE);
+            List<VideoResultResponse.DetectionDto> decoded = new ArrayList<>();
+            int fetched;
+
+            if (mode == DetectionStorageMode.COLUMNAR) {
+                List<DetectionSegment> segments =
+                        detectionSegmentRepository.findOverlapping(video, fromFrame, toFrame, pageRequest);
+                fetched = segments.size();
+                for (DetectionSegment segment : segments) {
+                    if (thresholdFrame != null && segment.getFrameStart() > thresholdFrame) {
+                        done = true;
+                        break;
+                    }
+                    decoded.addAll(DetectionColumnarCodec.decode(segment.getPayload()));
+                }
+            } else {
+                List<DetectionTrack> tracks = detectionTrackRepository.findOverlapping(
+                        video, fromFrame, toFrame, query.getObjectType(), query.getClassId(), pageRequest);
+                fetched = tracks.size();
+                for (DetectionTrack track : tracks) {
+                    if (thresholdFrame != null && track.getStartFrame() > thresholdFrame) {
+                        done = true;
+                        break;
+                    }
+                    DetectionDtoMapper.expandTrack(track, fromFrame, toFrame, decoded);
+                }
+            }
+
+            for (VideoResultResponse.DetectionDto dto : decoded) {
+                if (matches(dto, fromFrame, toFrame, query)) {
+                    collected.add(dto);
+                }
+            }
+            if (collected.size() >= needed) {
+                collected.sort(Comparator.comparing(VideoResultResponse.DetectionDto::getFrameNumber));
+                thresholdFrame = collected.get(needed - 1).getFrameNumber();
+            }
+            if (fetched < SOURCE_FETCH_SIZE) {
+                done = true;
+            }
+        }
+
+        // 정렬은 안정 정렬이라 같은 frame 안의 순서가 요청마다 동일 (cursor의 skip 기준)
+        collected.sort(Comparator.comparing(VideoResultResponse.DetectionDto::getFrameNumber));
+        int from = Math.min(skip, collected.size());
+        int to = Math.min(from + size, collected.size());
+        List<VideoResultResponse.DetectionDto> items = new ArrayList<>(collected.subList(from, to));
+        boolean hasNext = collected.size() > to;
+
+        String nextCursor = null;
+        if (hasNext) {
+            int lastFrame = items.get(items.size() - 1).getFrameNumber();
+            int sameFrame = 0;
+            for (int i = to - 1; i >= 0 && collected.get(i).getFrameNumber() == lastFrame; i--) {
+                sameFrame++;
+            }
+            nextCursor = encodeCursor(lastFrame, sameFrame);
+        }
+
+        return DetectionPageResponse.builder()
+                .videoId(video.getVideoId())
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private boolean matches(VideoResultResponse.DetectionDto dto, Integer fromFrame, Integer toFrame,
+                            DetectionQueryRequest query) {
+        Integer frame = dto.getFrameNumber();
+        if (frame == null) return false;
+        if (fromFrame != null && frame < fromFrame) return false;
+        if (toFrame != null && frame > toFrame) return false;
+        if (query.getObjectType() != null && !query.getObjectType().name().equals(dto.getObjectType())) return false;
+        if (query.getClassId() != null && !query.getClassId().equals(dto.getClassId())) return false;
+        if (query.getMinConfidence() != null
+                && (dto.getConfidence() == null || dto.getConfidence() < query.getMinConfidence())) return false;
+        return true;
+    }
+
+    // cursor: base64url("frame|key"), key = ROWS 면 마지막 id, 그 외에는 같은 frame에서 이미 반환한 개수
+    static String encodeCursor(long frame, long key) {
+        String raw = frame + "|" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static long[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) throw new IllegalArgumentException(raw);
+            return new long[]{Long.parseLong(parts[0]), Long.parseLong(parts[1])};
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("잘못된 cursor 입니다: " + cursor);
+        }
+    }
+}
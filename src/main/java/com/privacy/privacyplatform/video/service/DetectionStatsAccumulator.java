@@ -0,0 +1,55 @@
+package com.privacy.privacyplatform.video.service;
+
+import com.privacy.privacyplatform.video.entity.DetectionStats;
+import com.privacy.privacyplatform.video.entity.Video;
+import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+
+import java.util.BitSet;
+
+/**
+ * 수집 세션 1개 동안의 탐지 통계 누적 (스레드 안전하지 않음)
+ */
+class DetectionStatsAccumulator {
+
+    private long faces;
+    private long plates;
+    private long customs;
+    private long confidenceCount;
+    private double confidenceSum;
+    private Float confidenceMin;
+    private Float confidenceMax;
+    private final long[] histogram = new long[DetectionStats.HISTOGRAM_BINS];
+    private final BitSet frames = new BitSet();
+
+    void accept(ObjectType objectType, Float confidence, Integer frameNumber) {
+        switch (objectType) {
+            case FACE -> faces++;
+            case LICENSE_PLATE -> plates++;
+            default -> customs++;
+        }
+
+        if (confidence != null) {
+            float c = confidence;
+            confidenceCount++;
+            confidenceSum += c;
+            if (confidenceMin == null || c < confidenceMin) confidenceMin = c;
+            if (confidenceMax == null || c > confidenceMax) confidenceMax = c;
+            int bin = (int) (c * DetectionStats.HISTOGRAM_BINS);
+            histogram[Math.max(0, Math.min(DetectionStats.HISTOGRAM_BINS - 1, bin))]++;
+        }
+
+        if (frameNumber != null && frameNumber >= 0) {
+            frames.set(frameNumber);
+        }
+    }
+
+    /**
+     * 비디오의 저장된 통계에 이번 세션 결과 누적
+     */
+    void mergeInto(Video video) {
+        DetectionStats stats = video.getDetectionStats() != null ? video.getDetectionStats() : DetectionStats.empty();
+        stats.merge(faces, plates, customs, confidenceCount, confidenceSum,
+                confidenceMin, confidenceMax, histogram, frames.cardinality());
+        video.setDetectionStats(stats);
+    }
+}
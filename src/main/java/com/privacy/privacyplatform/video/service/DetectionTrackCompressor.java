@@ -0,0 +1,245 @@
+package com.privacy.privacyplatform.video.service;
+
+import com.privacy.privacyplatform.external.ai.dto.AICallbackRequest;
+import com.privacy.privacyplatform.video.codec.TrackKeyframeCodec;
+import com.privacy.privacyplatform.video.entity.DetectionTrack;
+import com.privacy.privacyplatform.video.entity.Video;
+import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 프레임별 탐지 스트림 → 객체 트랙 변환 (수집 세션 1개당 1개 사용, 스레드 안전하지 않음)
+ * - 같은 classId가 maxFrameGap 이내로 이어지면 하나의 트랙 (사이의 빈 프레임은 gap 으로 기록)
+ * - 같은 classId 객체가 한 프레임에 여럿이면 트랙도 여럿: 직전 bbox와 IoU가 가장 큰 트랙에 붙이고,
+ *   minIou 이상인 트랙이 없으면 새 트랙 (한 트랙에는 프레임당 탐지 1건)
+ * - bbox가 마지막 키프레임에서 tolerance(px) 넘게 움직였을 때만 키프레임 추가
+ */
+class DetectionTrackCompressor {
+
+    private final Video video;
+    private final int tolerance;
+    private final int maxFrameGap;
+    private final double minIou;
+    private final Function<String, ObjectType> objectTypeResolver;
+
+    private final Map<String, List<OpenTrack>> openTracks = new HashMap<>();
+    private int latestFrame = Integer.MIN_VALUE;
+    private int skipped = 0;
+
+    DetectionTrackCompressor(Video video, int tolerance, int maxFrameGap, double minIou,
+                             Function<String, ObjectType> objectTypeResolver) {
+        this.video = video;
+        this.tolerance = tolerance;
+        this.maxFrameGap = maxFrameGap;
+        this.minIou = minIou;
+        this.objectTypeResolver = objectTypeResolver;
+    }
+
+    /**
+     * 배치를 트랙에 반영하고, 더 이상 이어질 수 없는 트랙을 닫아서 반환
+     */
+    List<DetectionTrack> accept(List<AICallbackRequest.DetectionResult> batch) {
+        List<DetectionTrack> closed = new ArrayList<>();
+
+        for (AICallbackRequest.DetectionResult item : batch) {
+            List<Integer> bbox = item.getBbox();
+            if (item.getFrameNumber() == null || !isCompleteBbox(bbox)) {
+                skipped++;
+                continue;
+            }
+            int frame = item.getFrameNumber();
+            latestFrame = Math.max(latestFrame, frame);
+
+            String key = item.getClassId() != null ? "c" + item.getClassId() : "l" + item.getLabel();
+            List<OpenTrack> tracks = openTracks.computeIfAbsent(key, k -> new ArrayList<>());
+            OpenTrack track = match(tracks, frame, bbox, closed);
+            if (track == null) {
+                track = new OpenTrack(item);
+                tracks.add(track);
+            }
+            track.add(frame, bbox, item.getConfidence());
+        }
+
+        // 최근 프레임 기준으로 끊긴 트랙 정리 (열린 트랙 수를 활성 객체 수로 제한)
+        Iterator<List<OpenTrack>> it = openTracks.values().iterator();
+        while (it.hasNext()) {
+            List<OpenTrack> tracks = it.next();
+            tracks.removeIf(track -> {
+                if (latestFrame - track.lastFrame <= maxFrameGap) return false;
+                closed.add(track.toEntity());
+                return true;
+            });
+            if (tracks.isEmpty()) it.remove();
+        }
+        return closed;
+    }
+
+    /**
+     * 같은 class의 열린 트랙 중 직전 bbox와 IoU가 가장 큰 트랙 (maxFrameGap 넘게 끊긴 트랙은 닫음)
+     * 이미 이 프레임을 가진 트랙은 다른 객체이므로 제외
+     */
+    private OpenTrack match(List<OpenTrack> tracks, int frame, List<Integer> bbox, List<DetectionTrack> closed) {
+        OpenTrack best = null;
+        double bestIou = 0;
+
+        Iterator<OpenTrack> it = tracks.iterator();
+        while (it.hasNext()) {
+            OpenTrack track = it.next();
+            if (frame - track.lastFrame > maxFrameGap) {
+                closed.add(track.toEntity());
+                it.remove();
+                continue;
+            }
+            if (track.lastFrame == frame) continue;
+
+            double iou = iou(track.lastBox, bbox);
+            if (iou >= minIou && (best == null || iou > bestIou)) {
+                best = track;
+                bestIou = iou;
+            }
+        }
+        return best;
+    }
+
+    // box: {frame, x1, x2, y1, y2} / bbox: [x1, x2, y1, y2]
+    private static double iou(int[] box, List<Integer> bbox) {
+        long w = (long) Math.min(box[2], bbox.get(1)) - Math.max(box[1], bbox.get(0));
+        long h = (long) Math.min(box[4], bbox.get(3)) - Math.max(box[3], bbox.get(2));
+        if (w <= 0 || h <= 0) return 0;
+
+        long inter = w * h;
+        long union = area(box[1], box[2], box[3], box[4])
+                + area(bbox.get(0), bbox.get(1), bbox.get(2), bbox.get(3)) - inter;
+        return union > 0 ? (double) inter / union : 0;
+    }
+
+    private static long area(int x1, int x2, int y1, int y2) {
+        return Math.max(0L, (long) x2 - x1) * Math.max(0L, (long) y2 - y1);
+    }
+
+    /**
+     * 남은 트랙 모두 닫기
+     */
+    List<DetectionTrack> finish() {
+        List<DetectionTrack> closed = new ArrayList<>();
+        for (List<OpenTrack> tracks : openTracks.values()) {
+            for (OpenTrack track : tracks) {
+                closed.add(track.toEntity());
+            }
+        }
+        openTracks.clear();
+        return closed;
+    }
+
+    private static boolean isCompleteBbox(List<Integer> bbox) {
+        if (bbox == null || bbox.size() < 4) return false;
+        for (int k = 0; k < 4; k++) {
+            if (bbox.get(k) == null) return false;
+        }
+        return true;
+    }
+
+    int getSkipped() {
+        return skipped;
+    }
+
+    private class OpenTrack {
+        private final Integer classId;
+        private final String label;
+        private final List<int[]> keyframes = new ArrayList<>();
+        private final List<int[]> gaps = new ArrayList<>();
+        private int[] lastBox;
+        private int startFrame;
+        private int lastFrame;
+        private int count;
+        private double confidenceSum;
+        private int confidenceCount;
+        private float maxConfidence;
+
+        OpenTrack(AICallbackRequest.DetectionResult first) {
+            this.classId = first.getClassId();
+            this.label = first.getLabel();
+            this.startFrame = first.getFrameNumber();
+            this.lastFrame = first.getFrameNumber();
+        }
+
+        void add(int frame, List<Integer> bbox, Float confidence) {
+            int[] box = {frame, bbox.get(0), bbox.get(1), bbox.get(2), bbox.get(3)};
+
+            if (!keyframes.isEmpty() && frame > lastFrame + 1) {
+                gaps.add(new int[]{lastFrame + 1, frame - 1});
+            } else if (frame < lastFrame) {
+                fillGap(frame);
+            }
+
+            if (keyframes.isEmpty()) {
+                keyframes.add(box);
+            } else if (frame > lastFrame) {
+                int[] key = keyframes.get(keyframes.size() - 1);
+                if (movedBeyondTolerance(key, box)) {
+                    // 직전 프레임까지는 이전 키프레임 근처였으므로 그 위치도 함께 보존
+                    if (lastBox[0] != key[0]) keyframes.add(lastBox);
+                    keyframes.add(box);
+                }
+            }
+            if (frame >= lastFrame) {
+                lastBox = box;
+                lastFrame = frame;
+            }
+            startFrame = Math.min(startFrame, frame);
+
+            count++;
+            if (confidence != null) {
+                confidenceSum += confidence;
+                confidenceCount++;
+                maxConfidence = Math.max(maxConfidence, confidence);
+            }
+        }
+
+        // 순서가 뒤바뀌어 늦게 들어온 프레임은 gap 에서 제외
+        private void fillGap(int frame) {
+            for (int i = 0; i < gaps.size(); i++) {
+                int[] gap = gaps.get(i);
+                if (frame < gap[0] || frame > gap[1]) continue;
+
+                gaps.remove(i);
+                if (frame < gap[1]) gaps.add(i, new int[]{frame + 1, gap[1]});
+                if (frame > gap[0]) gaps.add(i, new int[]{gap[0], frame - 1});
+                return;
+            }
+        }
+
+        private boolean movedBeyondTolerance(int[] key, int[] box) {
+            for (int k = 1; k < 5; k++) {
+                if (Math.abs(box[k] - key[k]) > tolerance) return true;
+            }
+            return false;
+        }
+
+        DetectionTrack toEntity() {
+            // 마지막 프레임 위치는 항상 키프레임으로
+            int[] key = keyframes.get(keyframes.size() - 1);
+            if (key[0] != lastBox[0]) keyframes.add(lastBox);
+
+            return DetectionTrack.builder()
+                    .video(video)
+                    .classId(classId)
+                    .label(label)
+                    .objectType(objectTypeResolver.apply(label))
+                    .startFrame(startFrame)
+                    .endFrame(lastFrame)
+                    .detectionCount(count)
+                    .avgConfidence(confidenceCount > 0 ? (float) (confidenceSum / confidenceCount) : null)
+                    .maxConfidence(confidenceCount > 0 ? maxConfidence : null)
+                    .keyframes(TrackKeyframeCodec.pack(keyframes))
+                    .gaps(gaps.isEmpty() ? null : TrackKeyframeCodec.packGaps(gaps))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.privacy.privacyplatform.video.service;
+
+import com.privacy.privacyplatform.video.frameindex.FrameIndex;
+import com.privacy.privacyplatform.video.frameindex.FrameIndexCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 플레이어 seek 용 프레임 인덱스 조회
+ * - 캐시에 있으면 DB를 거치지 않음 (소유자 확인도 인덱스 헤더의 users.id로 처리)
+ * - 없으면 완료된 비디오의 탐지 결과로 인덱스 파일을 한 번 만들고 등록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FrameIndexService {
+
+    private final FrameIndexCache frameIndexCache;
+    private final DetectionQueryService detectionQueryService;
+
+    // 같은 비디오 인덱스를 동시에 여러 번 만들지 않도록
+    private final ConcurrentHashMap<String, Object> buildLocks = new ConcurrentHashMap<>();
+
+    /**
+     * 프레임 인덱스 조회 (없으면 생성)
+     *
+     * @param userPk 요청 사용자 users.id
+     */
+    public FrameIndex getFrameIndex(String videoId, Long userPk) throws IOException {
+        FrameIndex index = frameIndexCache.get(videoId);
+        if (index == null) {
+            index = build(videoId);
+        }
+
+        if (index.getOwnerUserPk() != userPk) {
+            throw new RuntimeException("본인의 비디오만 조회할 수 있습니다");
+        }
+        return index;
+    }
+
+    private FrameIndex build(String videoId) throws IOException {
+        Object lock = buildLocks.computeIfAbsent(videoId, k -> new Object());
+        try {
+            synchronized (lock) {
+                FrameIndex index = frameIndexCache.get(videoId);
+                if (index != null) return index;
+
+                long start = System.currentTimeMillis();
+                detectionQueryService.writeFrameIndex(videoId, frameIndexCache.fileFor(videoId));
+                index = frameIndexCache.load(videoId);
+                log.info("프레임 인덱스 생성: videoId={}, bytes={}, elapsedMs={}",
+                        videoId, index.getSizeBytes(), System.currentTimeMillis() - start);
+                return index;
+            }
+        } finally {
+            buildLocks.remove(videoId, lock);
+        }
+    }
+}
@@ -2,30 +2,77 @@ package com.privacy.privacyplatform.video.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.privacy.privacyplatform.cluster.ClusterEventRelay;
+import com.privacy.privacyplatform.external.ai.dto.AICallbackChunkRequest;
+import com.privacy.privacyplatform.external.ai.dto.AICallbackChunkResponse;
 import com.privacy.privacyplatform.external.ai.dto.AICallbackRequest;
 import com.privacy.privacyplatform.external.ai.dto.AIProcessRequest;
-import com.privacy.privacyplatform.external.ai.service.AIServerService;
+import com.privacy.privacyplatform.external.ai.dto.AIProgressRequest;
+import com.privacy.privacyplatform.external.ai.parser.AICallbackStreamReader;
 import com.privacy.privacyplatform.storage.service.S3Service;
+import com.privacy.privacyplatform.video.codec.TrackKeyframeCodec;
 import com.privacy.privacyplatform.video.dto.request.InitUploadRequest;
 import com.privacy.privacyplatform.video.dto.request.ProcessVideoRequest;
+import com.privacy.privacyplatform.video.dto.request.VideoStatusBatchRequest;
+import com.privacy.privacyplatform.video.dto.response.DetectionTrackResponse;
 import com.privacy.privacyplatform.video.dto.response.InitUploadResponse;
+import com.privacy.privacyplatform.video.dto.response.VideoPageResponse;
 import com.privacy.privacyplatform.video.dto.response.VideoResultResponse;
+import com.privacy.privacyplatform.video.dto.response.VideoStatusBatchResponse;
 import com.privacy.privacyplatform.video.dto.response.VideoStatusResponse;
-import com.privacy.privacyplatform.video.entity.Detection;
+import com.privacy.privacyplatform.video.entity.AIDispatchOutbox;
+import com.privacy.privacyplatform.video.entity.CallbackChunk;
+import com.privacy.privacyplatform.video.entity.CallbackReceipt;
+import com.privacy.privacyplatform.video.entity.DetectionStats;
+import com.privacy.privacyplatform.video.entity.DetectionTrack;
 import com.privacy.privacyplatform.video.entity.Video;
-import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+import com.privacy.privacyplatform.video.entity.enums.DetectionStorageMode;
+import com.privacy.privacyplatform.video.entity.enums.DispatchStatus;
 import com.privacy.privacyplatform.video.entity.enums.ProcessStatus;
+import com.privacy.privacyplatform.video.frameindex.FrameIndexCache;
+import com.privacy.privacyplatform.video.ingest.CallbackDeduplicator;
+import com.privacy.privacyplatform.video.repository.AIDispatchOutboxRepository;
+import com.privacy.privacyplatform.video.repository.CallbackChunkRepository;
+import com.privacy.privacyplatform.video.repository.CallbackReceiptRepository;
+import com.privacy.privacyplatform.video.repository.DetectionRepository;
+import com.privacy.privacyplatform.video.repository.DetectionSegmentRepository;
+import com.privacy.privacyplatform.video.repository.DetectionTrackRepository;
+import com.privacy.privacyplatform.video.repository.VideoListRow;
 import com.privacy.privacyplatform.video.repository.VideoRepository;
+import com.privacy.privacyplatform.video.repository.VideoStatusRow;
+import com.privacy.privacyplatform.video.repository.VideoVersionRow;
+import com.privacy.privacyplatform.video.resultcache.VideoResultCache;
+import com.privacy.privacyplatform.video.status.VideoStatusChangedEvent;
+import com.privacy.privacyplatform.video.status.VideoStatusRegistry;
+import com.privacy.privacyplatform.video.status.VideoStatusWaiters;
 import com.privacy.privacyplatform.user.User;
 import com.privacy.privacyplatform.user.UserRepository;
+import com.privacy.privacyplatform.websocket.dto.ProgressMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,12 +83,33 @@ public class VideoService {
 
     private final VideoRepository videoRepository;
     private final S3Service s3Service;
-    private final AIServerService aiServerService;
     private final ObjectMapper objectMapper;
     private final UserRepository userRepository;
-
-    @Value("${app.callback-url:https://api.safe-masking.cloud/api/videos/callback}")
-    private String callbackUrl;
+    private final DetectionIngestService detectionIngestService;
+    private final CallbackChunkRepository callbackChunkRepository;
+    private final CallbackReceiptRepository callbackReceiptRepository;
+    private final CallbackDeduplicator callbackDeduplicator;
+    private final AIDispatchOutboxRepository aiDispatchOutboxRepository;
+    private final DetectionRepository detectionRepository;
+    private final DetectionQueryService detectionQueryService;
+    private final FrameIndexCache frameIndexCache;
+    private final VideoResultCache videoResultCache;
+    private final VideoStatusRegistry videoStatusRegistry;
+    private final VideoStatusWaiters videoStatusWaiters;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterEventRelay clusterEventRelay;
+    private final DetectionSegmentRepository detectionSegmentRepository;
+    private final DetectionTrackRepository detectionTrackRepository;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    // 커밋이 늦게 보이는 변경을 놓치지 않도록 changeToken을 조회 시각보다 앞당기는 여유
+    private static final Duration CHANGE_TOKEN_MARGIN = Duration.ofSeconds(5);
+
+    @Value("${app.detection.batch-size:1000}")
+    private int detectionBatchSize;
+
+    @Value("${app.status-wait.timeout-ms:30000}")
+    private long statusWaitTimeoutMs;
 
     /**
      * 1. 업로드 URL 생성 (Pre-signed URL)
@@ -77,149 +145,421 @@ public class VideoService {
     }
 
     /**
-     * 2. 비디오 처리 시작 (비동기 - AI에 요청만 보내고 끝)
+     * 2. 비디오 처리 시작 (AI 서버 발송은 outbox 에 기록만 하고 커밋 후 AIDispatcher 가 발송)
      */
-    @Async
     @Transactional
     public void processVideo(String videoId, ProcessVideoRequest request) {
         log.info("비디오 처리 시작: videoId={}, options={}", videoId, request.getMaskingOptions());
 
-        Video video = videoRepository.findByVideoId(videoId)
+        // 같은 비디오의 처리 요청이 동시에 들어와도 outbox 대기 행이 하나만 남도록 행 잠금
+        Video video = videoRepository.findByVideoIdForUpdate(videoId)
                 .orElseThrow(() -> new RuntimeException("Video not found: " + videoId));
 
+        ProcessVideoRequest.MaskingOptions opts = request.getMaskingOptions();
+        if (opts == null) {
+            throw new RuntimeException("마스킹 옵션이 필요합니다");
+        }
+        AIProcessRequest.MaskingOptions maskingOptions = AIProcessRequest.MaskingOptions.builder()
+                .face(opts.getFace())
+                .licensePlate(opts.getLicensePlate())
+                .customObject(opts.getObject())
+                .customObjectName(opts.getObjectName())
+                .maskingOption_blur(!Boolean.TRUE.equals(opts.getUseAvatar()))
+                .maskingOption_swap(Boolean.TRUE.equals(opts.getUseAvatar()))
+                .build();
+
+        // 재처리: 이전 실행의 청크 / 콜백 기록과 탐지 결과를 지워야 새 실행의 청크가 중복으로 무시되지 않음
+        clearProcessingResult(video);
+
+        String processedS3Key = "processed/masked_" + videoId + ".mp4";
         video.setS3OriginalPath(request.getS3Key());
+        video.setS3ProcessedPath(processedS3Key);
         video.setFileSizeBytes(request.getFileSize());
         video.updateStatus(ProcessStatus.PROCESSING);
+        videoResultCache.invalidate(videoId);
         videoRepository.save(video);
 
+        // 상태 변경과 같은 트랜잭션 (커밋되지 않으면 발송도 없음, 커밋되면 발송될 때까지 재시도)
+        // 아직 발송 전인 행이 있으면 새로 쌓지 않고 이번 요청 내용으로 갱신 (중복 요청 / 재처리)
+        // 발송 중(lease) / 재시도 대기 중인 행은 재사용하지 않고 대체 처리 - 늦게 온 발송 결과는 조건부 UPDATE에서 무시됨
+        LocalDateTime now = LocalDateTime.now();
+        AIDispatchOutbox outbox = aiDispatchOutboxRepository
+                .findFirstByVideoAndStatusAndNextAttemptAtLessThanEqual(video, DispatchStatus.PENDING, now)
+                .orElseGet(() -> AIDispatchOutbox.builder().video(video).build());
+        aiDispatchOutboxRepository.supersedePending(video, outbox.getId());
         try {
-            String downloadUrl = s3Service.generatePresignedDownloadUrl(request.getS3Key());
+            outbox.setMaskingOptions(objectMapper.writeValueAsString(maskingOptions));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("마스킹 옵션 직렬화 실패", e);
+        }
+        outbox.setOriginalKey(request.getS3Key());
+        outbox.setProcessedKey(processedS3Key);
+        outbox.setAttempts(0);
+        outbox.setNextAttemptAt(now);
+        outbox.setLastError(null);
+        aiDispatchOutboxRepository.save(outbox);
+        eventPublisher.publishEvent(VideoStatusChangedEvent.of(video, false));
+    }
 
-            String processedS3Key = "processed/masked_" + videoId + ".mp4";
-            String uploadUrl = s3Service.generatePresignedUploadUrlWithKey(processedS3Key, "video/mp4").getUrl();
-            video.setS3ProcessedPath(processedS3Key);
+    /**
+     * 2-1. AI 서버 발송 포기 (재시도 한도 초과) - 처리 중이던 비디오를 실패로
+     */
+    @Transactional
+    public void markDispatchFailed(String videoId) {
+        videoRepository.findByVideoId(videoId).ifPresent(video -> {
+            if (video.getStatus() != ProcessStatus.PROCESSING) return;
+            video.updateStatus(ProcessStatus.FAILED);
             videoRepository.save(video);
-            ProcessVideoRequest.MaskingOptions opts = request.getMaskingOptions();
-
-            AIProcessRequest aiRequest = AIProcessRequest.builder()
-                    .downloadUrl(downloadUrl)
-                    .uploadUrl(uploadUrl)
-                    .videoId(videoId)
-                    .callbackUrl(callbackUrl)
-                    .maskingOptions(AIProcessRequest.MaskingOptions.builder()
-                            .face(opts.getFace())
-                            .licensePlate(opts.getLicensePlate())
-                            .customObject(opts.getObject())
-                            .customObjectName(opts.getObjectName())
-                            .maskingOption_blur(!Boolean.TRUE.equals(opts.getUseAvatar()))
-                            .maskingOption_swap(Boolean.TRUE.equals(opts.getUseAvatar()))
-                            .build())
-                    .build();
+            eventPublisher.publishEvent(VideoStatusChangedEvent.of(video, false));
+        });
+    }
 
-            aiServerService.sendProcessRequest(aiRequest);
+    /**
+     * 3. AI 콜백 처리 (본문 스트리밍 파싱 - detections를 배치 단위로 바로 저장)
+     * videoId를 먼저 찾고 본문을 다시 읽어서 저장 (videoId가 detections 뒤에 있어도 배치를 힙에 쌓지 않음)
+     *
+     * @param body      다시 열 수 있는 콜백 본문 (스풀 레코드)
+     * @param dedupeKey 재전송 판별 키 (callbackId 또는 본문 해시, 본문의 videoId로 범위를 좁혀 저장)
+     * @return 이미 반영된 콜백이라 건너뛰었으면 false
+     */
+    @Transactional
+    public boolean handleAiCallback(AICallbackStreamReader.BodySource body, String dedupeKey) throws IOException {
+        String videoId;
+        try (AICallbackStreamReader reader = AICallbackStreamReader.open(objectMapper, body.open(), detectionBatchSize)) {
+            videoId = reader.readVideoId();
+        }
+        if (videoId == null) {
+            throw new RuntimeException("AI 콜백 본문에 videoId가 없습니다");
+        }
 
-            log.info("AI 서버에 처리 요청 전송 완료: videoId={}", videoId);
+        Video video = findCallbackVideo(videoId);
+        if (isDuplicateCallback(video, dedupeKey)) return false;
 
-        } catch (Exception e) {
-            log.error("AI 서버 요청 실패: videoId={}", videoId, e);
-            video.updateStatus(ProcessStatus.FAILED);
-            videoRepository.save(video);
+        int ingested;
+        try (AICallbackStreamReader reader = AICallbackStreamReader.open(objectMapper, body.open(), detectionBatchSize)) {
+            DetectionIngestService.DetectionWriter writer = detectionIngestService.openWriter(video);
+            List<AICallbackRequest.DetectionResult> batch;
+            while ((batch = reader.nextBatch()) != null) {
+                // 탐지 결과 저장 (엔티티 cascade를 거치지 않고 배치 단위로 바로 저장)
+                writer.write(batch);
+            }
+            ingested = writer.finish();
+
+            applyCallbackResult(video, reader.getHeader());
+            callbackReceiptRepository.save(CallbackReceipt.builder()
+                    .video(video)
+                    .dedupeKey(CallbackDeduplicator.scopedKey(videoId, dedupeKey))
+                    .detectionCount(ingested)
+                    .build());
         }
+        afterCommit(() -> callbackDeduplicator.remember(videoId, dedupeKey));
+
+        log.info("AI 콜백 처리 완료: videoId={}, detections={}", video.getVideoId(), ingested);
+        return true;
     }
 
+    /**
+     * 3-1. AI 청크 콜백 처리 (프레임 구간별 부분 결과, sequence로 중복 제거)
+     */
     @Transactional
-    public void handleAiCallback(AICallbackRequest request) {
-        log.info("AI 콜백 수신: videoId={}", request.getVideoId());
+    public AICallbackChunkResponse handleAiCallbackChunk(AICallbackChunkRequest request) {
+        if (request.getSequence() == null || request.getSequence() < 0) {
+            throw new RuntimeException("청크 sequence가 필요합니다: videoId=" + request.getVideoId());
+        }
+        log.info("AI 청크 콜백 수신: videoId={}, sequence={}, frames=[{}, {}], last={}",
+                request.getVideoId(), request.getSequence(),
+                request.getFrameStart(), request.getFrameEnd(), request.getLast());
 
-        Video video = videoRepository.findByVideoId(request.getVideoId())
+        // 같은 비디오의 청크가 동시에 들어와도 카운터가 꼬이지 않도록 행 잠금
+        Video video = videoRepository.findByVideoIdForUpdate(request.getVideoId())
                 .orElseThrow(() -> new RuntimeException("Video not found: " + request.getVideoId()));
 
-        // maskedUrl은 무시 (이미 processVideo에서 s3ProcessedPath 설정됨)
-        // video.setS3ProcessedPath(request.getMaskedUrl());
+        if (video.getStatus() == ProcessStatus.COMPLETED
+                || callbackChunkRepository.existsByVideoAndSequence(video, request.getSequence())) {
+            log.info("중복 청크 무시: videoId={}, sequence={}", request.getVideoId(), request.getSequence());
+            return AICallbackChunkResponse.builder()
+                    .videoId(video.getVideoId())
+                    .sequence(request.getSequence())
+                    .duplicate(true)
+                    .completed(video.getStatus() == ProcessStatus.COMPLETED)
+                    .build();
+        }
 
-        video.setFrameCount(request.getFrameCount());
-        video.setProcessingTimeMs(request.getProcessingTimeMs());
-        video.updateStatus(ProcessStatus.COMPLETED);
-        // statistics 저장
-        if (request.getStatistics() != null) {
-            video.setUniqueFaceCount(request.getStatistics().getFaceCount());
-            video.setUniquePlateCount(request.getStatistics().getLicensePlateCount());
-            video.setUniqueCustomCount(request.getStatistics().getCustomObjectCount());
-            video.setTotalUniqueObjects(request.getStatistics().getTotalUniqueObjects());
-        }
-        // 탐지 결과 저장
-        if (request.getDetections() != null) {
-            for (AICallbackRequest.DetectionResult item : request.getDetections()) {
-                Detection detection = Detection.builder()
-                        .video(video)
-                        .classId(item.getClassId())
-                        .label(item.getLabel())
-                        .objectType(labelToObjectType(item.getLabel()))
-                        .confidence(item.getConfidence())
-                        .boundingBox(convertBboxToJson(item.getBbox()))
-                        .frameNumber(item.getFrameNumber())
-                        .maskingApplied(true)
-                        .build();
-
-                video.addDetection(detection);
+        // 마지막 청크를 받은 뒤에는 그 범위를 벗어난 sequence / 다른 마지막 청크를 거부
+        Integer lastSequence = video.getLastChunkSequence();
+        if (lastSequence != null && (request.getSequence() > lastSequence
+                || (Boolean.TRUE.equals(request.getLast()) && !request.getSequence().equals(lastSequence)))) {
+            throw new RuntimeException("청크 sequence가 마지막 청크 범위를 벗어났습니다: videoId="
+                    + request.getVideoId() + ", sequence=" + request.getSequence() + ", last=" + lastSequence);
+        }
+
+        validateChunkFrames(video, request);
+
+        int ingested = detectionIngestService.ingest(video, request.getDetections());
+
+        callbackChunkRepository.save(CallbackChunk.builder()
+                .video(video)
+                .sequence(request.getSequence())
+                .frameStart(request.getFrameStart())
+                .frameEnd(request.getFrameEnd())
+                .detectionCount(ingested)
+                .lastChunk(Boolean.TRUE.equals(request.getLast()))
+                .build());
+
+        video.recordChunk(request.getFrameEnd());
+        if (request.getTotalFrames() != null) {
+            video.setFrameCount(request.getTotalFrames());
+        }
+
+        if (Boolean.TRUE.equals(request.getLast())) {
+            video.setLastChunkSequence(request.getSequence());
+            if (request.getFrameCount() != null) {
+                video.setFrameCount(request.getFrameCount());
             }
+            video.setProcessingTimeMs(request.getProcessingTimeMs());
+            applyStatistics(video, request.getStatistics());
         }
 
+        // 마지막 청크가 먼저 도착할 수 있으므로 0..last 의 모든 sequence가 모였을 때 완료 처리
+        // (마지막 청크보다 먼저 도착한 범위 밖 sequence는 세지 않음)
+        boolean completed = video.getLastChunkSequence() != null
+                && video.isAllChunksReceived(callbackChunkRepository.countByVideoAndSequenceLessThanEqual(
+                        video, video.getLastChunkSequence()));
+        if (completed) {
+            video.updateStatus(ProcessStatus.COMPLETED);
+            log.info("AI 청크 콜백 완료: videoId={}, chunks={}", video.getVideoId(), video.getReceivedChunkCount());
+        }
         videoRepository.save(video);
-        log.info("AI 콜백 처리 완료: videoId={}", request.getVideoId());
+        if (completed) {
+            eventPublisher.publishEvent(VideoStatusChangedEvent.of(video, false));
+        } else {
+            eventPublisher.publishEvent(VideoStatusChangedEvent.of(video, true));
+        }
+
+        return AICallbackChunkResponse.builder()
+                .videoId(video.getVideoId())
+                .sequence(request.getSequence())
+                .duplicate(false)
+                .completed(completed)
+                .build();
+    }
+
+    /**
+     * 3-2. AI 진행률 알림 (STOMP 로 발행, DB 저장 없음)
+     * 이미 완료/실패한 비디오의 늦은 진행률은 버림
+     */
+    public void handleAiProgress(AIProgressRequest request) {
+        String videoId = request.getVideoId();
+        if (videoId == null || request.getPercentage() == null) {
+            throw new RuntimeException("videoId와 percentage가 필요합니다");
+        }
+
+        // 처리 중인 비디오는 대부분 상태 맵에 있어서 DB를 거치지 않음
+        VideoStatusRegistry.Snapshot snapshot = videoStatusRegistry.get(videoId);
+        if (snapshot == null && !videoRepository.existsByVideoId(videoId)) {
+            throw new RuntimeException("Video not found: " + videoId);
+        }
+        if (snapshot != null && snapshot.isTerminal()) {
+            return;
+        }
+
+        clusterEventRelay.publishProgress(ProgressMessage.builder()
+                .videoId(videoId)
+                .status(ProcessStatus.PROCESSING.name())
+                .percentage(Math.max(0, Math.min(100, request.getPercentage())))
+                .message(request.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build());
     }
 
     /**
      *  4. 비디오 상태 조회 (폴링용, 새로 추가)
      */
-    public VideoStatusResponse getVideoStatus(String videoId, String userId) {
-        Video video = videoRepository.findByVideoId(videoId)
-                .orElseThrow(() -> new RuntimeException("Video not found: " + videoId));
+    public VideoStatusResponse getVideoStatus(String videoId, Long userPk) {
+        VideoStatusRegistry.Snapshot snapshot = videoStatusRegistry.get(videoId);
+        if (snapshot == null) {
+            VideoStatusRow row = videoRepository.findStatusRow(videoId, userPk)
+                    .orElseThrow(() -> new RuntimeException("Video not found: " + videoId));
+            snapshot = new VideoStatusRegistry.Snapshot(
+                    userPk, row.getStatus(), row.getFrameCount(), row.getProcessedFrameCount());
+            videoStatusRegistry.put(videoId, snapshot);
+        } else if (!snapshot.getOwnerUserPk().equals(userPk)) {
+            throw new RuntimeException("본인의 비디오만 조회할 수 있습니다");
+        }
+
+        return toStatusResponse(videoId, snapshot.getStatus(),
+                snapshot.getFrameCount(), snapshot.getProcessedFrameCount());
+    }
+
+    /**
+     * 4-2. 상태 변경 대기 (long-poll)
+     * - 클라이언트가 알고 있는 상태/진행률과 다르면 바로 응답
+     * - 같으면 상태 변경 이벤트나 타임아웃까지 요청을 붙잡아 둠 (대기 중에는 스레드를 쓰지 않음)
+     *
+     * @param knownStatus   클라이언트가 마지막으로 받은 상태 (null 이면 바로 응답)
+     * @param knownProgress 클라이언트가 마지막으로 받은 진행률
+     */
+    public DeferredResult<VideoStatusResponse> waitForStatusChange(String videoId, Long userPk,
+                                                                   ProcessStatus knownStatus, Integer knownProgress) {
+        VideoStatusResponse current = getVideoStatus(videoId, userPk);
+        DeferredResult<VideoStatusResponse> result = new DeferredResult<>(statusWaitTimeoutMs);
+
+        boolean terminal = current.getStatus() == ProcessStatus.COMPLETED || current.getStatus() == ProcessStatus.FAILED;
+        if (terminal || isStatusChanged(current, knownStatus, knownProgress)) {
+            result.setResult(current);
+            return result;
+        }
+
+        Runnable unregister = videoStatusWaiters.register(videoId, event -> result.setResult(toStatusResponse(
+                videoId, event.getStatus(), event.getFrameCount(), event.getProcessedFrameCount())));
+        if (unregister == null) {
+            // 대기자 한도 초과 - 현재 상태로 응답 (클라이언트가 다시 요청)
+            result.setResult(current);
+            return result;
+        }
+        result.onCompletion(unregister);
+        result.onTimeout(() -> result.setResult(getLatestStatus(videoId, current)));
+
+        // 조회와 등록 사이에 바뀐 경우 (상태 맵은 대기자보다 먼저 갱신됨)
+        VideoStatusResponse latest = getLatestStatus(videoId, current);
+        if (isStatusChanged(latest, knownStatus, knownProgress)) {
+            result.setResult(latest);
+        }
+        return result;
+    }
+
+    /**
+     * 4-1. 일괄 상태 조회 (IN 쿼리 한 번)
+     * - videoIds 가 비어 있으면 처리 중인 내 비디오 전부
+     * - since 가 있으면 그 이후 상태/진행률이 바뀐 비디오만 반환
+     *
+     * @param userPk 요청 사용자 users.id
+     */
+    public VideoStatusBatchResponse getVideoStatuses(Long userPk, VideoStatusBatchRequest request) {
+        List<String> videoIds = request.getVideoIds();
+        if (videoIds != null && videoIds.size() > MAX_PAGE_SIZE) {
+            throw new RuntimeException("한 번에 조회할 수 있는 비디오는 최대 " + MAX_PAGE_SIZE + "개입니다");
+        }
+        LocalDateTime since = decodeChangeToken(request.getSince());
+
+        // 조회 직전 시각으로 토큰 발급 (커밋 지연분은 여유 시간만큼 다음 요청에서 한 번 더 반환)
+        LocalDateTime queriedAt = LocalDateTime.now();
+
+        List<VideoStatusRow> rows;
+        if (videoIds != null && !videoIds.isEmpty()) {
+            rows = videoRepository.findStatusRows(userPk, videoIds, since);
+        } else if (since != null) {
+            rows = videoRepository.findStatusRowsChangedSince(userPk, since);
+        } else {
+            rows = videoRepository.findStatusRowsByStatus(userPk,
+                    List.of(ProcessStatus.UPLOADED, ProcessStatus.PROCESSING));
+        }
+
+        return VideoStatusBatchResponse.builder()
+                .statuses(rows.stream()
+                        .map(row -> toStatusResponse(row.getVideoId(), row.getStatus(),
+                                row.getFrameCount(), row.getProcessedFrameCount()))
+                        .collect(Collectors.toList()))
+                .changeToken(encodeChangeToken(queriedAt.minus(CHANGE_TOKEN_MARGIN)))
+                .build();
+    }
+
+    /**
+     * 5. 비디오 결과 조회
+     */
+    public VideoResultResponse getVideoResult(String videoId, Long userPk) {
+        log.info("비디오 조회: videoId={}, userPk={}", videoId, userPk);
 
-        if (!video.getUser().getUserId().equals(userId)) {
+        Video video = findOwnedVideo(videoId, userPk, "본인의 비디오만 조회할 수 있습니다");
+
+        VideoResultResponse response = buildVideoResultResponse(video);
+        cacheVideoResult(video, response);
+        return response;
+    }
+
+    /**
+     * 5-0. 캐시된 결과 응답 조회 (DB 조회 없음)
+     *
+     * @param userPk 요청 사용자 users.id
+     * @return 캐시에 없으면 null
+     */
+    public VideoResultCache.Entry getCachedVideoResult(String videoId, Long userPk) {
+        VideoResultCache.Entry cached = videoResultCache.get(videoId);
+        if (cached != null && !cached.getOwnerUserPk().equals(userPk)) {
             throw new RuntimeException("본인의 비디오만 조회할 수 있습니다");
         }
+        return cached;
+    }
 
-        String message = switch (video.getStatus()) {
-            case UPLOADED -> "업로드 완료";
-            case PROCESSING -> "AI 처리 중...";
-            case COMPLETED -> "처리 완료";
-            case FAILED -> "처리 실패";
-        };
+    /**
+     * 5-1. 객체 트랙 조회 (TRACKS 저장 모드, 프레임별 bbox는 클라이언트가 키프레임으로 보간)
+     */
+    public DetectionTrackResponse getVideoTracks(String videoId, Long userPk) {
+        Video video = findOwnedVideo(videoId, userPk, "본인의 비디오만 조회할 수 있습니다");
+        if (video.getDetectionStorage() != DetectionStorageMode.TRACKS) {
+            throw new RuntimeException("트랙 저장 모드로 처리된 비디오가 아닙니다: " + videoId);
+        }
 
-        return VideoStatusResponse.builder()
+        List<DetectionTrackResponse.TrackDto> tracks = detectionTrackRepository.findByVideoOrderByStartFrameAscIdAsc(video)
+                .stream()
+                .map(this::toTrackDto)
+                .collect(Collectors.toList());
+
+        return DetectionTrackResponse.builder()
                 .videoId(video.getVideoId())
-                .status(video.getStatus())
-                .message(message)
+                .frameCount(video.getFrameCount())
+                .tracks(tracks)
                 .build();
     }
 
     /**
-     * 5. 비디오 결과 조회
+     * 5-2. 탐지 통계 조회 (저장된 통계만 읽음)
      */
-    public VideoResultResponse getVideoResult(String videoId, String userId) {
-        log.info("비디오 조회: videoId={}, userId={}", videoId, userId);
+    public VideoResultResponse.DetectionStatistics getVideoStatistics(String videoId, Long userPk) {
+        log.info("탐지 통계 조회: videoId={}, userPk={}", videoId, userPk);
+
+        Video video = findOwnedVideo(videoId, userPk, "본인의 비디오만 조회할 수 있습니다");
+
+        return buildStatistics(video, null);
+    }
 
-        Video video = videoRepository.findByVideoId(videoId)
+    /**
+     * 5-3. 결과 ETag 계산 (detections를 읽기 전에 If-None-Match 비교용)
+     * - 완료된 비디오의 결과는 바뀌지 않으므로 videoId + processedAt + 탐지 수로 버전 식별
+     * - 다운로드 URL이 들어가는 응답은 URL 최소 유효시간 단위로 ETag를 바꿔서 만료된 URL이 재사용되지 않게 함
+     *
+     * @param variant 응답 종류 (result / statistics / tracks)
+     * @return 완료 전이거나 탐지 수가 없는 예전 비디오면 null (조건부 응답 안 함)
+     */
+    public String getResultETag(String videoId, Long userPk, String variant, boolean includesUrls) {
+        VideoVersionRow row = videoRepository.findVersionRow(videoId)
                 .orElseThrow(() -> new RuntimeException("Video not found: " + videoId));
 
-        if (!video.getUser().getUserId().equals(userId)) {
+        if (!row.getOwnerUserPk().equals(userPk)) {
             throw new RuntimeException("본인의 비디오만 조회할 수 있습니다");
         }
+        if (row.getStatus() != ProcessStatus.COMPLETED || row.getProcessedAt() == null
+                || row.getTotalDetections() == null) {
+            return null;
+        }
+        return composeResultETag(row.getVideoId(), row.getProcessedAt(), row.getTotalDetections(),
+                variant, includesUrls);
+    }
 
-        return buildVideoResultResponse(video);
+    /**
+     * 5-4. 캐시된 결과 응답의 ETag (DB 조회 없음)
+     */
+    public String getResultETag(String videoId, VideoResultCache.Entry cached, String variant) {
+        return composeResultETag(videoId, cached.getProcessedAt(), cached.getTotalDetections(), variant, true);
     }
 
     /**
      * 6. 내 비디오 목록 조회
      */
-    public List<VideoResultResponse> getMyVideos(String userId) {
-        log.info("내 비디오 목록 조회: userId={}", userId);
+    public List<VideoResultResponse> getMyVideos(Long userPk) {
+        log.info("내 비디오 목록 조회: userPk={}", userPk);
 
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-
-        List<Video> videos = videoRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+        List<Video> videos = videoRepository.findByUserIdOrderByCreatedAtDesc(userPk);
 
         return videos.stream()
                 .map(this::buildVideoResultResponse)
@@ -227,19 +567,94 @@ public class VideoService {
     }
 
     /**
-     * 7. 비디오 삭제
+     * 6-1. 내 비디오 목록 페이지 조회
+     * - (created_at, id) 키셋 커서로 다음 페이지 조회 (offset 없음)
+     * - 목록 컬럼만 projection 으로 읽고, detections / 다운로드 URL은 include 요청 시에만 채움
+     *
+     * @param include "detections", "urls" 조합 (null 이면 둘 다 제외)
      */
-    @Transactional
-    public void deleteVideo(String videoId, String userId) {
-        log.info("비디오 삭제: videoId={}, userId={}", videoId, userId);
+    public VideoPageResponse getMyVideoPage(Long userPk, ProcessStatus status, String cursor,
+                                            int size, Set<String> include) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        boolean includeDetections = include != null && include.contains("detections");
+        boolean includeUrls = include != null && include.contains("urls");
+        log.info("내 비디오 목록 페이지 조회: userPk={}, status={}, size={}, include={}", userPk, status, pageSize, include);
+
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorCreatedAt = LocalDateTime.parse(parts[0]);
+            cursorId = Long.parseLong(parts[1]);
+        }
 
-        Video video = videoRepository.findByVideoId(videoId)
-                .orElseThrow(() -> new RuntimeException("Video not found: " + videoId));
+        // 한 건 더 읽어서 다음 페이지 여부 판단
+        List<VideoListRow> rows = videoRepository.findListPage(
+                userPk, status, cursorCreatedAt, cursorId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
 
-        if (!video.getUser().getUserId().equals(userId)) {
-            throw new RuntimeException("본인의 비디오만 삭제할 수 있습니다");
+        Map<Long, Long> legacyCounts = countLegacyDetections(rows);
+        Map<Long, Video> videosForDetections = includeDetections
+                ? videoRepository.findAllById(rows.stream().map(VideoListRow::getId).toList()).stream()
+                        .collect(Collectors.toMap(Video::getId, v -> v))
+                : Map.of();
+
+        List<VideoResultResponse> items = new ArrayList<>(rows.size());
+        for (VideoListRow row : rows) {
+            List<VideoResultResponse.DetectionDto> detections = includeDetections
+                    ? detectionQueryService.loadAll(videosForDetections.get(row.getId()))
+                    : null;
+
+            Long totalDetections = row.getTotalDetections() != null
+                    ? Long.valueOf(row.getTotalDetections())
+                    : legacyCounts.getOrDefault(row.getId(), 0L);
+
+            items.add(VideoResultResponse.builder()
+                    .videoId(row.getVideoId())
+                    .originalFilename(row.getOriginalFilename())
+                    .status(row.getStatus())
+                    .originalDownloadUrl(includeUrls && row.getS3OriginalPath() != null
+                            ? s3Service.generatePresignedDownloadUrl(row.getS3OriginalPath()) : null)
+                    .processedDownloadUrl(includeUrls && row.getS3ProcessedPath() != null
+                            ? s3Service.generatePresignedDownloadUrl(row.getS3ProcessedPath()) : null)
+                    .fileSizeBytes(row.getFileSizeBytes())
+                    .frameCount(row.getFrameCount())
+                    .processingTimeMs(row.getProcessingTimeMs())
+                    .detections(detections)
+                    .statistics(VideoResultResponse.DetectionStatistics.builder()
+                            .totalDetections(totalDetections)
+                            .faceCount(row.getUniqueFaceCount() != null ? row.getUniqueFaceCount().longValue() : 0L)
+                            .licensePlateCount(row.getUniquePlateCount() != null ? row.getUniquePlateCount().longValue() : 0L)
+                            .customObjectCount(row.getUniqueCustomCount() != null ? row.getUniqueCustomCount().longValue() : 0L)
+                            .averageConfidence(row.getConfidenceCount() != null && row.getConfidenceCount() > 0
+                                    ? (float) (row.getConfidenceSum() / row.getConfidenceCount())
+                                    : detections != null ? calculateAverageConfidence(detections) : null)
+                            .build())
+                    .uploadedAt(row.getUploadedAt())
+                    .processedAt(row.getProcessedAt())
+                    .build());
         }
 
+        VideoListRow last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return VideoPageResponse.builder()
+                .items(items)
+                .nextCursor(hasNext ? encodeCursor(last.getCreatedAt(), last.getId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 7. 비디오 삭제
+     */
+    @Transactional
+    public void deleteVideo(String videoId, Long userPk) {
+        log.info("비디오 삭제: videoId={}, userPk={}", videoId, userPk);
+
+        Video video = findOwnedVideo(videoId, userPk, "본인의 비디오만 삭제할 수 있습니다");
+
         if (video.getS3OriginalPath() != null) {
             s3Service.deleteFile(video.getS3OriginalPath());
         }
@@ -247,12 +662,255 @@ public class VideoService {
             s3Service.deleteFile(video.getS3ProcessedPath());
         }
 
+        callbackChunkRepository.deleteByVideo(video);
+        callbackReceiptRepository.deleteByVideo(video);
+        aiDispatchOutboxRepository.deleteByVideo(video);
+        detectionSegmentRepository.deleteByVideo(video);
+        detectionTrackRepository.deleteByVideo(video);
         videoRepository.delete(video);
+        // 캐시 / 상태 맵 / 다른 노드 알림은 커밋 후 한 번에
+        clusterEventRelay.publishDeleted(videoId);
         log.info("비디오 삭제 완료: videoId={}", videoId);
     }
 
     // ============== Helper 메서드 ==============
 
+    /**
+     * 청크 프레임 구간 검증 (통계의 framesWithDetections 가 청크 간에 중복 집계되지 않도록)
+     * - 이미 받은 청크 구간과 겹치면 거부, 구간 밖 frame의 탐지 결과도 거부
+     */
+    private void validateChunkFrames(Video video, AICallbackChunkRequest request) {
+        Integer frameStart = request.getFrameStart();
+        Integer frameEnd = request.getFrameEnd();
+        if (frameStart == null || frameEnd == null) return;
+
+        if (frameStart > frameEnd) {
+            throw new RuntimeException("청크 프레임 구간이 잘못되었습니다: videoId=" + request.getVideoId()
+                    + ", frames=[" + frameStart + ", " + frameEnd + "]");
+        }
+        if (callbackChunkRepository.existsOverlapping(video, frameStart, frameEnd)) {
+            throw new RuntimeException("이미 받은 청크와 프레임 구간이 겹칩니다: videoId=" + request.getVideoId()
+                    + ", frames=[" + frameStart + ", " + frameEnd + "]");
+        }
+        if (request.getDetections() == null) return;
+        for (AICallbackRequest.DetectionResult detection : request.getDetections()) {
+            Integer frame = detection.getFrameNumber();
+            if (frame != null && (frame < frameStart || frame > frameEnd)) {
+                throw new RuntimeException("청크 프레임 구간 밖의 탐지 결과입니다: videoId=" + request.getVideoId()
+                        + ", frame=" + frame + ", frames=[" + frameStart + ", " + frameEnd + "]");
+            }
+        }
+    }
+
+    private void clearProcessingResult(Video video) {
+        callbackChunkRepository.deleteByVideo(video);
+        callbackReceiptRepository.deleteByVideo(video);
+        detectionRepository.deleteByVideo(video);
+        detectionSegmentRepository.deleteByVideo(video);
+        detectionTrackRepository.deleteByVideo(video);
+        video.resetProcessing();
+
+        // 커밋 전에 비우면 그 사이 조회가 이전 결과로 인덱스를 다시 만들 수 있음
+        // (지운 receipt의 키도 메모리에서 버려야 새 처리의 같은 키 콜백이 중복으로 걸러지지 않음)
+        String videoId = video.getVideoId();
+        afterCommit(() -> {
+            frameIndexCache.evict(videoId);
+            callbackDeduplicator.evictVideo(videoId);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // video_id + 소유자 조건 한 번으로 조회, 없을 때만 존재 여부를 확인해서 오류 구분
+    private Video findOwnedVideo(String videoId, Long userPk, String deniedMessage) {
+        return videoRepository.findByVideoIdAndUserId(videoId, userPk)
+                .orElseThrow(() -> videoRepository.existsByVideoId(videoId)
+                        ? new RuntimeException(deniedMessage)
+                        : new RuntimeException("Video not found: " + videoId));
+    }
+
+    private VideoStatusResponse toStatusResponse(String videoId, ProcessStatus status,
+                                                 Integer frameCount, Integer processedFrames) {
+        String message = switch (status) {
+            case UPLOADED -> "업로드 완료";
+            case PROCESSING -> "AI 처리 중...";
+            case COMPLETED -> "처리 완료";
+            case FAILED -> "처리 실패";
+        };
+
+        // 청크 콜백으로 들어온 부분 진행률 (전체 프레임 수를 알 때만)
+        Integer progress = null;
+        if (status == ProcessStatus.COMPLETED) {
+            progress = 100;
+        } else if (processedFrames != null && frameCount != null && frameCount > 0) {
+            progress = Math.min(99, (int) (processedFrames * 100L / frameCount));
+        }
+
+        return VideoStatusResponse.builder()
+                .videoId(videoId)
+                .status(status)
+                .message(message)
+                .processedFrames(processedFrames)
+                .progress(progress)
+                .build();
+    }
+
+    private boolean isStatusChanged(VideoStatusResponse current, ProcessStatus knownStatus, Integer knownProgress) {
+        return knownStatus == null
+                || current.getStatus() != knownStatus
+                || !Objects.equals(current.getProgress(), knownProgress);
+    }
+
+    // 상태 맵에 있으면 그 값, 없으면 fallback
+    private VideoStatusResponse getLatestStatus(String videoId, VideoStatusResponse fallback) {
+        VideoStatusRegistry.Snapshot snapshot = videoStatusRegistry.get(videoId);
+        if (snapshot == null) return fallback;
+        return toStatusResponse(videoId, snapshot.getStatus(),
+                snapshot.getFrameCount(), snapshot.getProcessedFrameCount());
+    }
+
+    // changeToken: base64url(epoch millis)
+    private String encodeChangeToken(LocalDateTime at) {
+        String raw = Long.toString(at.toInstant(ZoneOffset.UTC).toEpochMilli());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private LocalDateTime decodeChangeToken(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(raw)), ZoneOffset.UTC);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("잘못된 changeToken 입니다: " + token);
+        }
+    }
+
+    /**
+     * 완료된 결과 응답을 직렬화해서 캐시 (탐지 수가 없는 예전 비디오는 ETag를 못 만들어서 제외)
+     */
+    private void cacheVideoResult(Video video, VideoResultResponse response) {
+        if (video.getStatus() != ProcessStatus.COMPLETED || video.getProcessedAt() == null
+                || video.getTotalDetections() == null) {
+            return;
+        }
+        try {
+            videoResultCache.put(video.getVideoId(), new VideoResultCache.Entry(
+                    video.getUser().getId(), video.getProcessedAt(), video.getTotalDetections(),
+                    objectMapper.writeValueAsBytes(response)));
+        } catch (JsonProcessingException e) {
+            log.warn("결과 응답 캐시 실패: videoId={}", video.getVideoId(), e);
+        }
+    }
+
+    /**
+     * videoId + processedAt + 탐지 수 + 응답 종류로 ETag 생성
+     * 다운로드 URL이 들어가는 응답은 (URL 최소 유효시간 - 결과 캐시 TTL) 단위로 ETag를 바꿔서
+     * 304로 재사용한 URL이 만료되지 않게 함
+     */
+    private String composeResultETag(String videoId, LocalDateTime processedAt, Integer totalDetections,
+                                     String variant, boolean includesUrls) {
+        long processedAtMillis = processedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        StringBuilder tag = new StringBuilder("\"")
+                .append(videoId).append('-')
+                .append(Long.toHexString(processedAtMillis)).append('-')
+                .append(totalDetections).append('-')
+                .append(variant);
+        if (includesUrls) {
+            long windowMillis = s3Service.getMinDownloadUrlValidity().minus(videoResultCache.getTtl()).toMillis();
+            tag.append("-u").append(Long.toHexString(System.currentTimeMillis() / windowMillis));
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * total_detections 컬럼이 생기기 전에 ROWS 모드로 저장된 비디오만 한 번에 카운트
+     */
+    private Map<Long, Long> countLegacyDetections(List<VideoListRow> rows) {
+        List<Long> legacyPks = rows.stream()
+                .filter(r -> r.getTotalDetections() == null
+                        && (r.getDetectionStorage() == null || r.getDetectionStorage() == DetectionStorageMode.ROWS))
+                .map(VideoListRow::getId)
+                .toList();
+        if (legacyPks.isEmpty()) return Map.of();
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : detectionRepository.countGroupByVideoPks(legacyPks)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) throw new IllegalArgumentException(raw);
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("잘못된 cursor 입니다: " + cursor);
+        }
+    }
+
+    private Video findCallbackVideo(String videoId) {
+        log.info("AI 콜백 수신: videoId={}", videoId);
+        // 같은 비디오의 재전송 콜백이 동시에 처리되지 않도록 행 잠금 (receipt 확인 ~ 저장 구간 직렬화)
+        return videoRepository.findByVideoIdForUpdate(videoId)
+                .orElseThrow(() -> new RuntimeException("Video not found: " + videoId));
+    }
+
+    private boolean isDuplicateCallback(Video video, String dedupeKey) {
+        if (!callbackDeduplicator.isApplied(video.getVideoId(), dedupeKey)) {
+            return false;
+        }
+        log.info("중복 콜백 무시: videoId={}, key={}", video.getVideoId(), dedupeKey);
+        return true;
+    }
+
+    /**
+     * 콜백 메타데이터(frameCount, statistics 등) 반영 후 COMPLETED 처리
+     */
+    private void applyCallbackResult(Video video, AICallbackRequest header) {
+        // maskedUrl은 무시 (이미 processVideo에서 s3ProcessedPath 설정됨)
+        // video.setS3ProcessedPath(header.getMaskedUrl());
+
+        video.setFrameCount(header.getFrameCount());
+        video.setProcessingTimeMs(header.getProcessingTimeMs());
+        video.updateStatus(ProcessStatus.COMPLETED);
+        applyStatistics(video, header.getStatistics());
+        videoRepository.save(video);
+        eventPublisher.publishEvent(VideoStatusChangedEvent.of(video, false));
+    }
+
+    /**
+     * AI 서버 statistics 저장
+     */
+    private void applyStatistics(Video video, AICallbackRequest.Statistics statistics) {
+        if (statistics == null) return;
+
+        video.setUniqueFaceCount(statistics.getFaceCount());
+        video.setUniquePlateCount(statistics.getLicensePlateCount());
+        video.setUniqueCustomCount(statistics.getCustomObjectCount());
+        video.setTotalUniqueObjects(statistics.getTotalUniqueObjects());
+    }
+
     /**
      * Video → VideoResultResponse 변환
      */
@@ -265,17 +923,8 @@ public class VideoService {
                 ? s3Service.generatePresignedDownloadUrl(video.getS3ProcessedPath())
                 : null;
 
-        List<VideoResultResponse.DetectionDto> detectionDtos = video.getDetections().stream()
-                .map(this::convertToDetectionDto)
-                .collect(Collectors.toList());
-
-        VideoResultResponse.DetectionStatistics statistics = VideoResultResponse.DetectionStatistics.builder()
-                .totalDetections((long) video.getDetections().size())
-                .faceCount(video.getUniqueFaceCount() != null ? video.getUniqueFaceCount().longValue() : 0L)
-                .licensePlateCount(video.getUniquePlateCount() != null ? video.getUniquePlateCount().longValue() : 0L)
-                .customObjectCount(video.getUniqueCustomCount() != null ? video.getUniqueCustomCount().longValue() : 0L)
-                .averageConfidence(calculateAverageConfidence(video.getDetections()))
-                .build();
+        List<VideoResultResponse.DetectionDto> detectionDtos = detectionQueryService.loadAll(video);
+        VideoResultResponse.DetectionStatistics statistics = buildStatistics(video, detectionDtos);
 
         return VideoResultResponse.builder()
                 .videoId(video.getVideoId())
@@ -293,107 +942,75 @@ public class VideoService {
                 .build();
     }
 
-    /**
-     * Detection → DetectionDto 변환
-     */
-    private VideoResultResponse.DetectionDto convertToDetectionDto(Detection detection) {
-        return VideoResultResponse.DetectionDto.builder()
-                .id(detection.getId())
-                .classId(detection.getClassId())
-                .label(detection.getLabel())
-                .objectType(detection.getObjectType().name())
-                .confidence(detection.getConfidence())
-                .bbox(parseBbox(detection.getBoundingBox()))
-                .frameNumber(detection.getFrameNumber())
-                .timestampMs(detection.getTimestampMs())
-                .maskingApplied(detection.getMaskingApplied())
-                .build();
-    }
-
-    /**
-     * Label → ObjectType 변환
-     */
-    private ObjectType labelToObjectType(String label) {
-        if (label == null) return ObjectType.CUSTOM_OBJECT;
+    private DetectionTrackResponse.TrackDto toTrackDto(DetectionTrack track) {
+        List<List<Integer>> keyframes = new ArrayList<>();
+        for (int[] key : TrackKeyframeCodec.unpack(track.getKeyframes())) {
+            keyframes.add(List.of(key[0], key[1], key[2], key[3], key[4]));
+        }
+        List<List<Integer>> gaps = new ArrayList<>();
+        for (int[] gap : TrackKeyframeCodec.unpackGaps(track.getGaps())) {
+            gaps.add(List.of(gap[0], gap[1]));
+        }
 
-        return switch (label.toLowerCase()) {
-            case "human head", "face" -> ObjectType.FACE;
-            case "license plate" -> ObjectType.LICENSE_PLATE;
-            default -> ObjectType.CUSTOM_OBJECT;
-        };
+        return DetectionTrackResponse.TrackDto.builder()
+                .id(track.getId())
+                .classId(track.getClassId())
+                .label(track.getLabel())
+                .objectType(track.getObjectType().name())
+                .startFrame(track.getStartFrame())
+                .endFrame(track.getEndFrame())
+                .detectionCount(track.getDetectionCount())
+                .avgConfidence(track.getAvgConfidence())
+                .maxConfidence(track.getMaxConfidence())
+                .keyframes(keyframes)
+                .gaps(gaps)
+                .build();
     }
 
     /**
-     * Bbox List → JSON 문자열
+     * 탐지 통계 (수집 시점에 저장된 값 사용, 기존 데이터만 불러온 탐지 결과로 계산)
+     *
+     * @param loaded 이미 불러온 탐지 결과 (없으면 null - 기존 데이터일 때만 직접 로드)
      */
-    private String convertBboxToJson(List<Integer> bbox) {
-        try {
-            return objectMapper.writeValueAsString(bbox);
-        } catch (JsonProcessingException e) {
-            log.error("Bbox 변환 실패", e);
-            return null;
+    private VideoResultResponse.DetectionStatistics buildStatistics(Video video,
+                                                                    List<VideoResultResponse.DetectionDto> loaded) {
+        VideoResultResponse.DetectionStatistics.DetectionStatisticsBuilder builder =
+                VideoResultResponse.DetectionStatistics.builder()
+                        .faceCount(video.getUniqueFaceCount() != null ? video.getUniqueFaceCount().longValue() : 0L)
+                        .licensePlateCount(video.getUniquePlateCount() != null ? video.getUniquePlateCount().longValue() : 0L)
+                        .customObjectCount(video.getUniqueCustomCount() != null ? video.getUniqueCustomCount().longValue() : 0L);
+
+        DetectionStats stats = video.getDetectionStats();
+        if (stats != null && video.getTotalDetections() != null) {
+            return builder
+                    .totalDetections(video.getTotalDetections().longValue())
+                    .averageConfidence(stats.getAverageConfidence())
+                    .faceDetections(stats.getFaceDetections())
+                    .licensePlateDetections(stats.getPlateDetections())
+                    .customObjectDetections(stats.getCustomDetections())
+                    .minConfidence(stats.getConfidenceMin())
+                    .maxConfidence(stats.getConfidenceMax())
+                    .confidenceHistogram(stats.getHistogramList())
+                    .framesWithDetections(stats.getFramesWithDetections())
+                    .build();
         }
-    }
 
-    /**
-     * JSON 문자열 → Bbox List
-     */
-    private List<Integer> parseBbox(String json) {
-        try {
-            return objectMapper.readValue(json,
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, Integer.class));
-        } catch (Exception e) {
-            log.error("Bbox 파싱 실패", e);
-            return null;
-        }
+        List<VideoResultResponse.DetectionDto> detections = loaded != null ? loaded : detectionQueryService.loadAll(video);
+        return builder
+                .totalDetections((long) detections.size())
+                .averageConfidence(calculateAverageConfidence(detections))
+                .build();
     }
+
     /**
      * 평균 confidence 계산
      */
-    private float calculateAverageConfidence(List<Detection> detections) {
+    private float calculateAverageConfidence(List<VideoResultResponse.DetectionDto> detections) {
         if (detections == null || detections.isEmpty()) return 0.0f;
         return (float) detections.stream()
-                .mapToDouble(Detection::getConfidence)
+                .filter(d -> d.getConfidence() != null)
+                .mapToDouble(VideoResultResponse.DetectionDto::getConfidence)
                 .average()
                 .orElse(0.0);
     }
-    /**
-     * 탐지 통계 계산
-     */
-    private VideoResultResponse.DetectionStatistics calculateStatistics(List<Detection> detections) {
-        if (detections == null || detections.isEmpty()) {
-            return VideoResultResponse.DetectionStatistics.builder()
-                    .totalDetections(0L)
-                    .faceCount(0L)
-                    .licensePlateCount(0L)
-                    .customObjectCount(0L)
-                    .averageConfidence(0.0f)
-                    .build();
-        }
-
-        long faceCount = detections.stream()
-                .filter(d -> d.getObjectType() == ObjectType.FACE)
-                .count();
-
-        long licensePlateCount = detections.stream()
-                .filter(d -> d.getObjectType() == ObjectType.LICENSE_PLATE)
-                .count();
-
-        long customObjectCount = detections.stream()
-                .filter(d -> d.getObjectType() == ObjectType.CUSTOM_OBJECT)
-                .count();
-
-        float averageConfidence = (float) detections.stream()
-                .mapToDouble(Detection::getConfidence)
-                .average()
-                .orElse(0.0);
-
-        return VideoResultResponse.DetectionStatistics.builder()
-                .totalDetections((long) detections.size())
-                .faceCount(faceCount)
-                .licensePlateCount(licensePlateCount)
-                .customObjectCount(customObjectCount)
-                .averageConfidence(averageConfidence)
-                .build();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.privacy.privacyplatform.video.service;
+
+import com.privacy.privacyplatform.storage.service.S3Service;
+import com.privacy.privacyplatform.video.dto.response.VideoUrlResponse;
+import com.privacy.privacyplatform.video.repository.VideoRepository;
+import com.privacy.privacyplatform.video.repository.VideoUrlRow;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 갤러리용 다운로드 URL 일괄 서명
+ * - 소유자 확인은 IN 쿼리 한 번 (S3 키만 읽음)
+ * - 서명은 CPU 코어 수만큼의 전용 풀에서 병렬 처리 (S3Service 캐시에 있으면 재서명 없음)
+ */
+@Slf4j
+@Service
+public class VideoUrlService {
+
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final VideoRepository videoRepository;
+    private final S3Service s3Service;
+    private final ExecutorService signers;
+
+    public VideoUrlService(VideoRepository videoRepository, S3Service s3Service) {
+        this.videoRepository = videoRepository;
+        this.s3Service = s3Service;
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.signers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+            Thread t = new Thread(r, "presign-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 다운로드 URL 일괄 조회 (요청 순서대로 반환)
+     *
+     * @param userPk 요청 사용자 users.id
+     */
+    public List<VideoUrlResponse> getDownloadUrls(Long userPk, List<String> videoIds) {
+        if (videoIds == null || videoIds.isEmpty()) {
+            return List.of();
+        }
+        Set<String> ids = new LinkedHashSet<>(videoIds);
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new RuntimeException("한 번에 조회할 수 있는 비디오는 최대 " + MAX_BATCH_SIZE + "개입니다");
+        }
+
+        Map<String, VideoUrlRow> rows = videoRepository.findUrlRows(userPk, ids).stream()
+                .collect(Collectors.toMap(VideoUrlRow::getVideoId, Function.identity()));
+        if (rows.size() != ids.size()) {
+            throw new RuntimeException("본인의 비디오만 조회할 수 있습니다");
+        }
+
+        List<CompletableFuture<VideoUrlResponse>> futures = new ArrayList<>(ids.size());
+        for (String videoId : ids) {
+            VideoUrlRow row = rows.get(videoId);
+            futures.add(CompletableFuture.supplyAsync(() -> sign(row), signers));
+        }
+        return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        signers.shutdown();
+    }
+
+    private VideoUrlResponse sign(VideoUrlRow row) {
+        return VideoUrlResponse.builder()
+                .videoId(row.getVideoId())
+                .originalDownloadUrl(row.getS3OriginalPath() != null
+                        ? s3Service.generatePresignedDownloadUrl(row.getS3OriginalPath()) : null)
+                .processedDownloadUrl(row.getS3ProcessedPath() != null
+                        ? s3Service.generatePresignedDownloadUrl(row.getS3ProcessedPath()) : null)
+                .build();
+    }
+}
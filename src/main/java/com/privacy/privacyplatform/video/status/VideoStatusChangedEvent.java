@@ -0,0 +1,31 @@
+package com.privacy.privacyplatform.video.status;
+
+import com.privacy.privacyplatform.video.entity.Video;
+import com.privacy.privacyplatform.video.entity.enums.ProcessStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 비디오 상태 / 진행률 변경 이벤트 (커밋 후 리스너에 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class VideoStatusChangedEvent {
+    private final String videoId;
+    private final Long ownerUserPk;
+    private final ProcessStatus status;
+    private final Integer frameCount;
+    private final Integer processedFrameCount;
+
+    // 청크 진행률만 바뀐 경우 (커밋 순서가 뒤바뀌어도 더 진행된 상태를 덮어쓰지 않도록 구분)
+    private final boolean progressOnly;
+
+    // 다른 노드에서 받은 이벤트 (다시 다른 노드로 보내지 않음)
+    private final boolean remote;
+
+    public static VideoStatusChangedEvent of(Video video, boolean progressOnly) {
+        // user는 지연 로딩 프록시여도 id는 초기화 없이 읽힘
+        return new VideoStatusChangedEvent(video.getVideoId(), video.getUser().getId(), video.getStatus(),
+                video.getFrameCount(), video.getProcessedFrameCount(), progressOnly, false);
+    }
+}
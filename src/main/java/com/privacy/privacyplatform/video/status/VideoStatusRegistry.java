@@ -0,0 +1,101 @@
+package com.privacy.privacyplatform.video.status;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.privacy.privacyplatform.video.entity.enums.ProcessStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 비디오 처리 상태 메모리 맵 (상태 폴링이 대부분 DB를 거치지 않도록)
+ * - 상태 변경 이벤트로 커밋 후 갱신, 폴링 miss 시 DB 조회 결과로 채움
+ * - 다른 노드에서 바뀐 상태는 클러스터 이벤트로 반영 (event-bus=local 이면 TTL이 지나면 반영)
+ */
+@Component
+public class VideoStatusRegistry {
+
+    private final Cache<String, Snapshot> snapshots;
+
+    /**
+     * 상태 스냅샷
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final Long ownerUserPk;
+        private final ProcessStatus status;
+        private final Integer frameCount;
+        private final Integer processedFrameCount;
+
+        static Snapshot of(VideoStatusChangedEvent event) {
+            return new Snapshot(event.getOwnerUserPk(), event.getStatus(),
+                    event.getFrameCount(), event.getProcessedFrameCount());
+        }
+
+        public boolean isTerminal() {
+            return status == ProcessStatus.COMPLETED || status == ProcessStatus.FAILED;
+        }
+    }
+
+    public VideoStatusRegistry(
+            @Value("${app.status-registry.ttl-seconds:30}") long ttlSeconds,
+            @Value("${app.status-registry.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "video.status");
+    }
+
+    public Snapshot get(String videoId) {
+        return snapshots.getIfPresent(videoId);
+    }
+
+    /**
+     * 폴링 miss 시 DB 조회 결과 등록
+     */
+    public void put(String videoId, Snapshot snapshot) {
+        snapshots.asMap().putIfAbsent(videoId, snapshot);
+    }
+
+    /**
+     * 상태 변경 반영 (커밋 후, 상태 변경 대기자보다 먼저)
+     * 진행률 이벤트는 커밋 순서가 뒤바뀌어도 완료 상태나 더 큰 진행률을 덮어쓰지 않음
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(VideoStatusChangedEvent event) {
+        Snapshot snapshot = Snapshot.of(event);
+        if (!event.isProgressOnly()) {
+            snapshots.put(event.getVideoId(), snapshot);
+            return;
+        }
+        snapshots.asMap().merge(event.getVideoId(), snapshot, (existing, incoming) -> {
+            if (existing.isTerminal()) return existing;
+            if (existing.getStatus() == ProcessStatus.PROCESSING
+                    && existing.getProcessedFrameCount() != null
+                    && incoming.getProcessedFrameCount() != null
+                    && existing.getProcessedFrameCount() >= incoming.getProcessedFrameCount()) {
+                return existing;
+            }
+            return incoming;
+        });
+    }
+
+    /**
+     * 비디오 삭제 시 호출 (커밋 후 시점은 호출하는 쪽에서 맞춤 - ClusterEventRelay.publishDeleted)
+     */
+    public void evict(String videoId) {
+        snapshots.invalidate(videoId);
+    }
+}
@@ -0,0 +1,73 @@
+package com.privacy.privacyplatform.video.status;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 상태 변경을 기다리는 long-poll 요청 목록 (비디오별)
+ * - 대기자는 콜백만 들고 있고 스레드를 점유하지 않음 (DeferredResult)
+ * - 상태 변경 이벤트가 오면 해당 비디오의 대기자를 한 번에 깨우고 목록에서 제거
+ */
+@Component
+public class VideoStatusWaiters {
+
+    private final ConcurrentHashMap<String, Set<Consumer<VideoStatusChangedEvent>>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    private final int maxWaiters;
+
+    public VideoStatusWaiters(
+            @Value("${app.status-wait.max-waiters:50000}") int maxWaiters,
+            MeterRegistry meterRegistry) {
+        this.maxWaiters = maxWaiters;
+        Gauge.builder("video.status.waiters", waiterCount, AtomicInteger::get)
+                .description("상태 변경을 기다리는 long-poll 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기자 등록
+     *
+     * @return 등록 해제 함수 (대기자 한도를 넘으면 null - 바로 응답해야 함)
+     */
+    public Runnable register(String videoId, Consumer<VideoStatusChangedEvent> callback) {
+        if (waiterCount.incrementAndGet() > maxWaiters) {
+            waiterCount.decrementAndGet();
+            return null;
+        }
+        // 이벤트 처리(remove)와 같은 키에서 원자적으로 실행되어 빠지는 대기자가 없음
+        waiters.compute(videoId, (key, set) -> {
+            if (set == null) set = ConcurrentHashMap.newKeySet();
+            set.add(callback);
+            return set;
+        });
+        return () -> unregister(videoId, callback);
+    }
+
+    /**
+     * 상태 변경 시 대기자 깨우기 (커밋 후, 상태 맵 갱신 다음)
+     */
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(VideoStatusChangedEvent event) {
+        Set<Consumer<VideoStatusChangedEvent>> woken = waiters.remove(event.getVideoId());
+        if (woken == null) return;
+        waiterCount.addAndGet(-woken.size());
+        woken.forEach(callback -> callback.accept(event));
+    }
+
+    private void unregister(String videoId, Consumer<VideoStatusChangedEvent> callback) {
+        waiters.computeIfPresent(videoId, (key, set) -> {
+            if (set.remove(callback)) waiterCount.decrementAndGet();
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package com.privacy.privacyplatform.websocket.service;
+
+import com.privacy.privacyplatform.video.entity.enums.ProcessStatus;
+import com.privacy.privacyplatform.websocket.dto.ProgressMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행률 STOMP 발행 (/topic/videos/{videoId})
+ * - 비디오별로 마지막 값만 보관했다가 주기적으로 한 번에 발행 (AI 서버가 자주 보내도 구독자에게는 주기당 1건)
+ * - 완료/실패 메시지는 같은 주기에 늦게 들어온 진행률로 덮어쓰지 않음
+ * - 메시지는 ClusterEventRelay 가 넣음 (이 노드 / 다른 노드의 상태 변경, AI 진행률)
+ */
+@Slf4j
+@Component
+public class ProgressBroadcaster {
+
+    private static final String TOPIC_PREFIX = "/topic/videos/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ConcurrentHashMap<String, ProgressMessage> pending = new ConcurrentHashMap<>();
+
+    private final Counter receivedCounter;
+    private final Counter sentCounter;
+
+    public ProgressBroadcaster(SimpMessagingTemplate messagingTemplate, MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.receivedCounter = Counter.builder("video.progress.messages")
+                .tag("stage", "received")
+                .description("발행 대기열에 들어온 진행률 메시지 수")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("video.progress.messages")
+                .tag("stage", "sent")
+                .description("병합 후 실제로 발행한 진행률 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 진행률 접수 (같은 주기 안에서는 마지막 값만 발행)
+     */
+    public void submit(ProgressMessage message) {
+        receivedCounter.increment();
+        pending.merge(message.getVideoId(), message,
+                (existing, incoming) -> isTerminal(existing) && !isTerminal(incoming) ? existing : incoming);
+    }
+
+    @Scheduled(fixedDelayString = "${app.progress.flush-interval-ms:500}")
+    void flush() {
+        for (String videoId : pending.keySet()) {
+            ProgressMessage message = pending.remove(videoId);
+            if (message == null) continue;
+            try {
+                messagingTemplate.convertAndSend(TOPIC_PREFIX + videoId, message);
+                sentCounter.increment();
+            } catch (Exception e) {
+                log.warn("진행률 발행 실패: videoId={}, error={}", videoId, e.getMessage());
+            }
+        }
+    }
+
+    private boolean isTerminal(ProgressMessage message) {
+        return ProcessStatus.COMPLETED.name().equals(message.getStatus())
+                || ProcessStatus.FAILED.name().equals(message.getStatus());
+    }
+}
@@ -0,0 +1,58 @@
+package com.privacy.privacyplatform.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClientDestinationInterceptorTest {
+
+    private static final String CLUSTER = "/exchange/privacy.cluster/events";
+
+    private final WebSocketConfig.ClientDestinationInterceptor interceptor =
+            new WebSocketConfig.ClientDestinationInterceptor(CLUSTER);
+
+    @Test
+    void clientMaySubscribeToVideoTopics() {
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/topic/videos/abc");
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    @Test
+    void clientMaySendToApplicationPrefix() {
+        Message<byte[]> message = frame(StompCommand.SEND, "/app/ping");
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    @Test
+    void clusterDestinationSubscribeRejected() {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, CLUSTER), null))
+                .isInstanceOf(MessagingException.class);
+    }
+
+    @Test
+    void sendToBrokerDestinationsRejected() {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, CLUSTER), null))
+                .isInstanceOf(MessagingException.class);
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/topic/videos/abc"), null))
+                .isInstanceOf(MessagingException.class);
+    }
+
+    @Test
+    void otherFramesPassThrough() {
+        Message<byte[]> message = frame(StompCommand.CONNECT, null);
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (destination != null) accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,101 @@
+package com.privacy.privacyplatform.video.codec;
+
+import com.privacy.privacyplatform.external.ai.dto.AICallbackRequest;
+import com.privacy.privacyplatform.video.dto.response.VideoResultResponse;
+import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DetectionColumnarCodecTest {
+
+    private static final Function<String, ObjectType> RESOLVER =
+            label -> "face".equals(label) ? ObjectType.FACE : ObjectType.CUSTOM_OBJECT;
+
+    @Test
+    void roundTrip() {
+        List<AICallbackRequest.DetectionResult> items = List.of(
+                detection(5, 0, "face", 0.9f, List.of(10, 20, 30, 40)),
+                detection(5, 1, "car", 0.75f, List.of(100, 200, 300, 400)),
+                detection(3, 0, "face", 0.5f, List.of(-5, 0, 0, 7)),
+                detection(1200, 0, "face", 1.0f, List.of(0, 1920, 0, 1080)));
+
+        List<VideoResultResponse.DetectionDto> decoded =
+                DetectionColumnarCodec.decode(DetectionColumnarCodec.encode(items, RESOLVER));
+
+        assertThat(decoded).hasSize(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            AICallbackRequest.DetectionResult item = items.get(i);
+            VideoResultResponse.DetectionDto dto = decoded.get(i);
+            assertThat(dto.getFrameNumber()).isEqualTo(item.getFrameNumber());
+            assertThat(dto.getClassId()).isEqualTo(item.getClassId());
+            assertThat(dto.getLabel()).isEqualTo(item.getLabel());
+            assertThat(dto.getObjectType()).isEqualTo(RESOLVER.apply(item.getLabel()).name());
+            assertThat(dto.getConfidence()).isEqualTo(item.getConfidence());
+            assertThat(dto.getBbox()).isEqualTo(item.getBbox());
+        }
+    }
+
+    @Test
+    void nullFieldsRoundTrip() {
+        List<AICallbackRequest.DetectionResult> items = List.of(
+                detection(null, null, null, null, null),
+                detection(7, 2, "plate", 0.3f, List.of(1, 2)));
+
+        List<VideoResultResponse.DetectionDto> decoded =
+                DetectionColumnarCodec.decode(DetectionColumnarCodec.encode(items, RESOLVER));
+
+        VideoResultResponse.DetectionDto empty = decoded.get(0);
+        assertThat(empty.getFrameNumber()).isNull();
+        assertThat(empty.getClassId()).isNull();
+        assertThat(empty.getLabel()).isNull();
+        assertThat(empty.getObjectType()).isEqualTo(ObjectType.CUSTOM_OBJECT.name());
+        assertThat(empty.getConfidence()).isNull();
+        assertThat(empty.getBbox()).isNull();
+
+        // 좌표가 4개 미만이면 bbox 없음으로 저장
+        assertThat(decoded.get(1).getBbox()).isNull();
+        assertThat(decoded.get(1).getFrameNumber()).isEqualTo(7);
+    }
+
+    @Test
+    void emptyRoundTrip() {
+        assertThat(DetectionColumnarCodec.decode(DetectionColumnarCodec.encode(List.of(), RESOLVER))).isEmpty();
+    }
+
+    @Test
+    void truncatedPayloadFails() {
+        byte[] payload = DetectionColumnarCodec.encode(List.of(
+                detection(1, 0, "face", 0.9f, List.of(1, 2, 3, 4)),
+                detection(2, 0, "face", 0.8f, List.of(5, 6, 7, 8))), RESOLVER);
+        byte[] truncated = Arrays.copyOf(payload, payload.length / 2);
+
+        assertThatThrownBy(() -> DetectionColumnarCodec.decode(truncated))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void foreignPayloadRejected() {
+        byte[] other = TrackKeyframeCodec.pack(List.of(new int[]{1, 2, 3, 4, 5}));
+
+        assertThatThrownBy(() -> DetectionColumnarCodec.decode(other))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    private static AICallbackRequest.DetectionResult detection(Integer frame, Integer classId, String label,
+                                                               Float confidence, List<Integer> bbox) {
+        return AICallbackRequest.DetectionResult.builder()
+                .frameNumber(frame)
+                .classId(classId)
+                .label(label)
+                .confidence(confidence)
+                .bbox(bbox)
+                .build();
+    }
+}
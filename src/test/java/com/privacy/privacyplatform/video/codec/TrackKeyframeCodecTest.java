@@ -0,0 +1,83 @@
+package com.privacy.privacyplatform.video.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrackKeyframeCodecTest {
+
+    @Test
+    void keyframesRoundTrip() {
+        List<int[]> keyframes = List.of(
+                new int[]{10, 100, 200, 50, 150},
+                new int[]{15, 90, 190, 55, 155},
+                new int[]{300, 0, 1920, 0, 1080});
+
+        List<int[]> decoded = TrackKeyframeCodec.unpack(TrackKeyframeCodec.pack(keyframes));
+
+        assertThat(decoded).hasSize(3);
+        for (int i = 0; i < keyframes.size(); i++) {
+            assertThat(decoded.get(i)).containsExactly(keyframes.get(i));
+        }
+    }
+
+    @Test
+    void emptyKeyframesRoundTrip() {
+        assertThat(TrackKeyframeCodec.unpack(TrackKeyframeCodec.pack(List.of()))).isEmpty();
+    }
+
+    @Test
+    void truncatedKeyframesFail() {
+        byte[] packed = TrackKeyframeCodec.pack(List.of(
+                new int[]{10, 100, 200, 50, 150},
+                new int[]{20, 110, 210, 60, 160}));
+        byte[] truncated = Arrays.copyOf(packed, packed.length - 1);
+
+        assertThatThrownBy(() -> TrackKeyframeCodec.unpack(truncated))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void gapsRoundTrip() {
+        List<int[]> gaps = List.of(new int[]{12, 12}, new int[]{20, 45}, new int[]{1000, 1999});
+
+        List<int[]> decoded = TrackKeyframeCodec.unpackGaps(TrackKeyframeCodec.packGaps(gaps));
+
+        assertThat(decoded).hasSize(3);
+        for (int i = 0; i < gaps.size(); i++) {
+            assertThat(decoded.get(i)).containsExactly(gaps.get(i));
+        }
+    }
+
+    @Test
+    void nullGapsMeanNoGaps() {
+        assertThat(TrackKeyframeCodec.unpackGaps(null)).isEmpty();
+    }
+
+    @Test
+    void truncatedGapsFail() {
+        byte[] packed = TrackKeyframeCodec.packGaps(List.of(new int[]{200, 400}));
+        byte[] truncated = Arrays.copyOf(packed, packed.length - 1);
+
+        assertThatThrownBy(() -> TrackKeyframeCodec.unpackGaps(truncated))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void interpolateBetweenKeyframes() {
+        List<int[]> keyframes = List.of(
+                new int[]{0, 0, 100, 0, 100},
+                new int[]{10, 100, 200, 50, 150});
+
+        assertThat(TrackKeyframeCodec.interpolate(keyframes, 0)).containsExactly(0, 100, 0, 100);
+        assertThat(TrackKeyframeCodec.interpolate(keyframes, 5)).containsExactly(50, 150, 25, 125);
+        assertThat(TrackKeyframeCodec.interpolate(keyframes, 10)).containsExactly(100, 200, 50, 150);
+        assertThat(TrackKeyframeCodec.interpolate(keyframes, 11)).isNull();
+        assertThat(TrackKeyframeCodec.interpolate(List.of(), 0)).isNull();
+    }
+}
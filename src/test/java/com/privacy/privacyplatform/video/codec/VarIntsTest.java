@@ -0,0 +1,63 @@
+package com.privacy.privacyplatform.video.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VarIntsTest {
+
+    private static final int[] VALUES = {0, 1, -1, 63, -64, 64, 127, 128, 16383, 16384,
+            Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+    @Test
+    void varintRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int v : VALUES) VarInts.writeVarint(out, v);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (int v : VALUES) assertThat(VarInts.readVarint(in)).isEqualTo(v);
+        assertThat(in.available()).isZero();
+    }
+
+    @Test
+    void zigzagRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int v : VALUES) VarInts.writeZigzag(out, v);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (int v : VALUES) assertThat(VarInts.readZigzag(in)).isEqualTo(v);
+    }
+
+    @Test
+    void smallValuesUseOneByte() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        VarInts.writeVarint(out, 127);
+        VarInts.writeZigzag(out, -64);
+        assertThat(bytes.size()).isEqualTo(2);
+    }
+
+    @Test
+    void truncatedVarintFails() {
+        // 이어지는 바이트가 있다고 표시했지만 입력이 끝남
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(new byte[]{(byte) 0x80}));
+        assertThatThrownBy(() -> VarInts.readVarint(in)).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void overlongVarintFails() {
+        byte[] overlong = {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01};
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(overlong));
+        assertThatThrownBy(() -> VarInts.readVarint(in)).isInstanceOf(IOException.class);
+    }
+}
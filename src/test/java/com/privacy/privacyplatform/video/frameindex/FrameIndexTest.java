@@ -0,0 +1,115 @@
+package com.privacy.privacyplatform.video.frameindex;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.privacy.privacyplatform.video.dto.response.VideoResultResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FrameIndexTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writeUnorderedSourceAndReadWindow() throws IOException {
+        // TRACKS 처럼 frame 순이 아닌 공급 순서
+        List<VideoResultResponse.DetectionDto> detections = List.of(
+                detection(12, "face", 0.9f, List.of(1, 2, 3, 4)),
+                detection(10, "car", null, null),
+                detection(null, "face", 0.1f, List.of(0, 0, 0, 0)),
+                detection(12, "plate", 0.5f, List.of(5, 6, 7, 8)),
+                detection(15, null, 0.7f, List.of(9, 10, 11, 12)));
+        Path file = dir.resolve("video.fidx");
+
+        FrameIndex.write(file, 7L, detections::forEach);
+        FrameIndex index = FrameIndex.open(file);
+
+        assertThat(index.getOwnerUserPk()).isEqualTo(7L);
+        JsonNode frames = window(index, 0, 100);
+        assertThat(frames).hasSize(3);
+        assertThat(frames.get(0).get("frame").asInt()).isEqualTo(10);
+        assertThat(frames.get(0).get("detections").get(0).has("confidence")).isFalse();
+        assertThat(frames.get(0).get("detections").get(0).has("bbox")).isFalse();
+        assertThat(frames.get(1).get("frame").asInt()).isEqualTo(12);
+        assertThat(frames.get(1).get("detections")).extracting(d -> d.get("label").asText())
+                .containsExactly("face", "plate");
+        assertThat(frames.get(2).get("detections").get(0).has("label")).isFalse();
+        assertThat(frames.get(2).get("detections").get(0).get("bbox").toString()).isEqualTo("[9,10,11,12]");
+
+        assertThat(window(index, 11, 14)).hasSize(1);
+        assertThat(window(index, 16, 20)).isEmpty();
+    }
+
+    @Test
+    void wideDescendingFrameRange() throws IOException {
+        List<VideoResultResponse.DetectionDto> detections = new ArrayList<>();
+        for (int frame = 5000; frame >= 0; frame -= 7) {
+            detections.add(detection(frame, "face", 0.5f, List.of(frame, 0, 0, 0)));
+        }
+        Path file = dir.resolve("wide.fidx");
+
+        FrameIndex.write(file, 1L, detections::forEach);
+        FrameIndex index = FrameIndex.open(file);
+
+        JsonNode frames = window(index, 0, 10_000);
+        assertThat(frames).hasSize(detections.size());
+        assertThat(frames.get(0).get("frame").asInt()).isEqualTo(5000 % 7);
+        assertThat(frames.get(frames.size() - 1).get("frame").asInt()).isEqualTo(5000);
+    }
+
+    @Test
+    void emptySource() throws IOException {
+        Path file = dir.resolve("empty.fidx");
+
+        FrameIndex.write(file, 1L, sink -> { });
+
+        assertThat(window(FrameIndex.open(file), 0, 100)).isEmpty();
+    }
+
+    @Test
+    void changedSourceRejected() {
+        List<VideoResultResponse.DetectionDto> first = List.of(detection(1, "face", 0.5f, null));
+        List<VideoResultResponse.DetectionDto> second = List.of(
+                detection(1, "face", 0.5f, null), detection(1, "face", 0.6f, null));
+        int[] pass = {0};
+
+        assertThatThrownBy(() -> FrameIndex.write(dir.resolve("changed.fidx"), 1L,
+                sink -> (pass[0]++ == 0 ? first : second).forEach(sink)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private JsonNode window(FrameIndex index, int from, int to) throws IOException {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(json)) {
+            gen.writeStartObject();
+            index.writeWindow(gen, from, to);
+            gen.writeEndObject();
+        }
+        return objectMapper.readTree(json.toString()).get("frames");
+    }
+
+    private static VideoResultResponse.DetectionDto detection(Integer frame, String label, Float confidence,
+                                                              List<Integer> bbox) {
+        return VideoResultResponse.DetectionDto.builder()
+                .frameNumber(frame)
+                .classId(0)
+                .label(label)
+                .objectType("FACE")
+                .confidence(confidence)
+                .bbox(bbox)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.privacy.privacyplatform.video.ingest;
+
+import com.privacy.privacyplatform.video.repository.CallbackReceiptRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CallbackDeduplicatorTest {
+
+    private final CallbackReceiptRepository repository = mock(CallbackReceiptRepository.class);
+    private final CallbackDeduplicator deduplicator =
+            new CallbackDeduplicator(repository, new SimpleMeterRegistry(), 100);
+
+    @Test
+    void keysScopedPerVideo() {
+        deduplicator.remember("video-a", "id:cb-1");
+
+        assertThat(deduplicator.isApplied("video-a", "id:cb-1")).isTrue();
+        assertThat(deduplicator.isApplied("video-b", "id:cb-1")).isFalse();
+    }
+
+    @Test
+    void evictVideoDropsOnlyThatVideo() {
+        deduplicator.remember("video-a", "id:cb-1");
+        deduplicator.remember("video-a", "sha256:abc");
+        deduplicator.remember("video-a:x", "id:cb-1");
+
+        deduplicator.evictVideo("video-a");
+
+        assertThat(deduplicator.isApplied("video-a", "id:cb-1")).isFalse();
+        assertThat(deduplicator.isApplied("video-a", "sha256:abc")).isFalse();
+        assertThat(deduplicator.isApplied("video-a:x", "id:cb-1")).isTrue();
+    }
+}
@@ -0,0 +1,220 @@
+package com.privacy.privacyplatform.video.ingest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CallbackSpoolTest {
+
+    @TempDir
+    Path dir;
+
+    private CallbackSpool spool;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (spool != null) spool.close();
+    }
+
+    @Test
+    void appendedRecordsRecoveredAfterRestart() throws IOException {
+        spool = open();
+        CallbackSpool.Record first = append("{\"videoId\":\"a\"}", "cb-1");
+        append("{\"videoId\":\"b\"}", null);
+        reopen();
+
+        List<CallbackSpool.Record> recovered = spool.takeRecoveredRecords();
+        assertThat(recovered).hasSize(2);
+        assertThat(recovered.get(0).getDedupeKey()).isEqualTo(first.getDedupeKey()).isEqualTo("id:cb-1");
+        assertThat(recovered.get(1).getDedupeKey()).startsWith("sha256:");
+        assertThat(read(recovered.get(0))).isEqualTo("{\"videoId\":\"a\"}");
+        assertThat(read(recovered.get(1))).isEqualTo("{\"videoId\":\"b\"}");
+    }
+
+    @Test
+    void recoveredRecordsTakenOnlyOnce() throws IOException {
+        spool = open();
+        append("old", null);
+        reopen();
+        append("live", null);
+
+        // 기동 후 append된 레코드는 이미 워커에 제출되므로 재처리 대상이 아님
+        List<CallbackSpool.Record> recovered = spool.takeRecoveredRecords();
+        assertThat(recovered).hasSize(1);
+        assertThat(read(recovered.get(0))).isEqualTo("old");
+        assertThat(spool.takeRecoveredRecords()).isEmpty();
+        assertThat(spool.pendingRecords()).hasSize(2);
+    }
+
+    @Test
+    void tornTailTruncatedOnRecovery() throws IOException {
+        spool = open();
+        CallbackSpool.Record complete = append("complete", "cb-1");
+        spool.close();
+        spool = null;
+
+        // 쓰다 만 레코드: 헤더만 있고 길이가 -1
+        Path file = dir.resolve("callbacks.spool");
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            out.write(ByteBuffer.allocate(46).putInt(0x53504F4C).putLong(-1L).flip());
+        }
+        assertThat(Files.size(file)).isGreaterThan(complete.end());
+
+        spool = open();
+        List<CallbackSpool.Record> recovered = spool.takeRecoveredRecords();
+        assertThat(recovered).hasSize(1);
+        assertThat(read(recovered.get(0))).isEqualTo("complete");
+        assertThat(Files.size(file)).isEqualTo(complete.end());
+    }
+
+    @Test
+    void garbageTailTruncatedOnRecovery() throws IOException {
+        spool = open();
+        CallbackSpool.Record complete = append("complete", null);
+        spool.close();
+        spool = null;
+
+        Path file = dir.resolve("callbacks.spool");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20,
+                21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46,
+                47, 48}, StandardOpenOption.APPEND);
+
+        spool = open();
+        assertThat(spool.takeRecoveredRecords()).hasSize(1);
+        assertThat(Files.size(file)).isEqualTo(complete.end());
+
+        // 잘라낸 뒤에도 정상적으로 이어서 append
+        append("next", null);
+        reopen();
+        assertThat(spool.takeRecoveredRecords()).extracting(this::read).containsExactly("complete", "next");
+    }
+
+    @Test
+    void corruptedPayloadTruncatedOnRecovery() throws IOException {
+        spool = open();
+        CallbackSpool.Record complete = append("complete", null);
+        CallbackSpool.Record damaged = append("damaged", "cb-2");
+        append("after", null);
+        spool.close();
+        spool = null;
+
+        // 헤더는 디스크에 닿았지만 본문이 덜 쓰인 경우: 길이는 맞고 해시가 다름
+        Path file = dir.resolve("callbacks.spool");
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            out.write(ByteBuffer.wrap(new byte[]{0}), damaged.getOffset() + damaged.getHeaderLength());
+        }
+
+        spool = open();
+        assertThat(spool.takeRecoveredRecords()).extracting(this::read).containsExactly("complete");
+        assertThat(Files.size(file)).isEqualTo(complete.end());
+    }
+
+    @Test
+    void checkpointAdvancesOnlyOverContiguousDoneRecords() throws IOException {
+        spool = open();
+        append("first", null);
+        CallbackSpool.Record second = append("second", null);
+        append("third", null);
+
+        // 두 번째만 끝나면 checkpoint는 그대로 → 재기동 시 셋 다 남음
+        spool.markDone(second);
+        reopen();
+        assertThat(spool.takeRecoveredRecords()).extracting(this::read)
+                .containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void checkpointSkipsDoneRecordsAfterRestart() throws IOException {
+        spool = open();
+        CallbackSpool.Record first = append("first", null);
+        CallbackSpool.Record second = append("second", null);
+        append("third", null);
+
+        spool.markDone(second);
+        spool.markDone(first);
+        reopen();
+
+        List<CallbackSpool.Record> recovered = spool.takeRecoveredRecords();
+        assertThat(recovered).extracting(this::read).containsExactly("third");
+        assertThat(recovered.get(0).getOffset()).isEqualTo(second.end());
+    }
+
+    @Test
+    void drainedSpoolIsCompacted() throws IOException {
+        spool = open();
+        CallbackSpool.Record first = append("first", null);
+        CallbackSpool.Record second = append("second", null);
+
+        spool.markDone(first);
+        spool.markDone(second);
+        // 같은 레코드를 두 번 완료 처리해도 밀린 크기가 음수가 되지 않음
+        spool.markDone(second);
+
+        assertThat(Files.size(dir.resolve("callbacks.spool"))).isZero();
+        assertThat(spool.isBacklogFull()).isFalse();
+        assertThat(spool.pendingRecords()).isEmpty();
+
+        CallbackSpool.Record next = append("next", null);
+        assertThat(next.getOffset()).isZero();
+        reopen();
+        assertThat(spool.takeRecoveredRecords()).extracting(this::read).containsExactly("next");
+    }
+
+    @Test
+    void backlogLimit() throws IOException {
+        spool = new CallbackSpool(dir.toString(), 10, new SimpleMeterRegistry());
+        spool.open();
+        CallbackSpool.Record record = append("0123456789", null);
+        assertThat(spool.isBacklogFull()).isTrue();
+
+        spool.markDone(record);
+        assertThat(spool.isBacklogFull()).isFalse();
+    }
+
+    @Test
+    void stagingFilesRemovedOnOpen() throws IOException {
+        Files.createDirectories(dir);
+        Path leftover = Files.createFile(dir.resolve("append-123.tmp"));
+
+        spool = open();
+
+        assertThat(leftover).doesNotExist();
+    }
+
+    private CallbackSpool open() throws IOException {
+        CallbackSpool opened = new CallbackSpool(dir.toString(), Long.MAX_VALUE, new SimpleMeterRegistry());
+        opened.open();
+        return opened;
+    }
+
+    private void reopen() throws IOException {
+        spool.close();
+        spool = open();
+    }
+
+    private CallbackSpool.Record append(String body, String callbackId) throws IOException {
+        return spool.append(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), callbackId);
+    }
+
+    private String read(CallbackSpool.Record record) {
+        try (InputStream in = spool.openPayload(record)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.privacy.privacyplatform.video.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DetectionQueryServiceCursorTest {
+
+    @Test
+    void cursorRoundTrip() {
+        String cursor = DetectionQueryService.encodeCursor(123456L, 987654321012L);
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(DetectionQueryService.decodeCursor(cursor)).containsExactly(123456L, 987654321012L);
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(DetectionQueryService.decodeCursor(null)).isNull();
+        assertThat(DetectionQueryService.decodeCursor(" ")).isNull();
+    }
+
+    @Test
+    void malformedCursorRejected() {
+        String truncated = DetectionQueryService.encodeCursor(10, 20);
+        String missingKey = encode("10");
+        String notNumber = encode("10|abc");
+
+        assertThatThrownBy(() -> DetectionQueryService.decodeCursor(truncated.substring(0, 1)))
+                .hasMessageStartingWith("잘못된 cursor");
+        assertThatThrownBy(() -> DetectionQueryService.decodeCursor(missingKey))
+                .hasMessageStartingWith("잘못된 cursor");
+        assertThatThrownBy(() -> DetectionQueryService.decodeCursor(notNumber))
+                .hasMessageStartingWith("잘못된 cursor");
+        assertThatThrownBy(() -> DetectionQueryService.decodeCursor("%%%"))
+                .hasMessageStartingWith("잘못된 cursor");
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,95 @@
+package com.privacy.privacyplatform.video.service;
+
+import com.privacy.privacyplatform.external.ai.dto.AICallbackRequest;
+import com.privacy.privacyplatform.video.dto.response.VideoResultResponse;
+import com.privacy.privacyplatform.video.entity.DetectionTrack;
+import com.privacy.privacyplatform.video.entity.Video;
+import com.privacy.privacyplatform.video.entity.enums.ObjectType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DetectionTrackCompressorTest {
+
+    private final DetectionTrackCompressor compressor =
+            new DetectionTrackCompressor(new Video(), 8, 3, 0.1, label -> ObjectType.FACE);
+
+    @Test
+    void sameClassObjectsInOneFrameKeepSeparateTracks() {
+        // 같은 class 얼굴 두 개가 나란히 움직임, 순서가 프레임마다 바뀌어도 위치로 구분
+        List<AICallbackRequest.DetectionResult> batch = new ArrayList<>();
+        for (int frame = 0; frame < 10; frame++) {
+            AICallbackRequest.DetectionResult left = detection(frame, 100 + frame, 200 + frame);
+            AICallbackRequest.DetectionResult right = detection(frame, 500 - frame, 600 - frame);
+            batch.add(frame % 2 == 0 ? left : right);
+            batch.add(frame % 2 == 0 ? right : left);
+        }
+
+        List<DetectionTrack> tracks = new ArrayList<>(compressor.accept(batch));
+        tracks.addAll(compressor.finish());
+
+        assertThat(tracks).hasSize(2);
+        tracks.sort(Comparator.comparing(t -> expand(t).get(0).getBbox().get(0)));
+        for (DetectionTrack track : tracks) {
+            assertThat(track.getStartFrame()).isZero();
+            assertThat(track.getEndFrame()).isEqualTo(9);
+            assertThat(track.getDetectionCount()).isEqualTo(10);
+            assertThat(track.getGaps()).isNull();
+        }
+        assertThat(expand(tracks.get(0))).extracting(d -> d.getBbox().get(0))
+                .containsExactly(100, 101, 102, 103, 104, 105, 106, 107, 108, 109);
+        assertThat(expand(tracks.get(1))).extracting(d -> d.getBbox().get(0))
+                .containsExactly(500, 499, 498, 497, 496, 495, 494, 493, 492, 491);
+    }
+
+    @Test
+    void objectAppearingLaterOpensNewTrack() {
+        List<DetectionTrack> closed = compressor.accept(List.of(
+                detection(0, 100, 200),
+                detection(1, 100, 200),
+                detection(1, 800, 900),
+                detection(2, 100, 200),
+                detection(2, 800, 900)));
+
+        assertThat(closed).isEmpty();
+        List<DetectionTrack> tracks = compressor.finish();
+        assertThat(tracks).extracting(DetectionTrack::getStartFrame).containsExactlyInAnyOrder(0, 1);
+        assertThat(tracks).extracting(DetectionTrack::getDetectionCount).containsExactlyInAnyOrder(3, 2);
+    }
+
+    @Test
+    void staleTrackClosedAfterMaxFrameGap() {
+        List<DetectionTrack> closed = compressor.accept(List.of(
+                detection(0, 100, 200),
+                detection(1, 800, 900),
+                detection(4, 800, 900)));
+
+        // 프레임 0 트랙만 끊김 (4 - 0 > 3), 오른쪽 객체는 gap 으로 이어짐
+        assertThat(closed).hasSize(1);
+        assertThat(closed.get(0).getEndFrame()).isZero();
+        List<DetectionTrack> rest = compressor.finish();
+        assertThat(rest).hasSize(1);
+        assertThat(expand(rest.get(0))).extracting(VideoResultResponse.DetectionDto::getFrameNumber)
+                .containsExactly(1, 4);
+    }
+
+    private static List<VideoResultResponse.DetectionDto> expand(DetectionTrack track) {
+        List<VideoResultResponse.DetectionDto> out = new ArrayList<>();
+        DetectionDtoMapper.expandTrack(track, null, null, out);
+        return out;
+    }
+
+    private static AICallbackRequest.DetectionResult detection(int frame, int x1, int x2) {
+        return AICallbackRequest.DetectionResult.builder()
+                .frameNumber(frame)
+                .classId(0)
+                .label("face")
+                .confidence(0.9f)
+                .bbox(List.of(x1, x2, 50, 150))
+                .build();
+    }
+}
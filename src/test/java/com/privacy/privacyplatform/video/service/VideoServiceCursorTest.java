@@ -0,0 +1,41 @@
+package com.privacy.privacyplatform.video.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VideoServiceCursorTest {
+
+    @Test
+    void cursorRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 45, 123_000_000);
+
+        String[] parts = VideoService.decodeCursor(VideoService.encodeCursor(createdAt, 42L));
+
+        assertThat(LocalDateTime.parse(parts[0])).isEqualTo(createdAt);
+        assertThat(Long.parseLong(parts[1])).isEqualTo(42L);
+    }
+
+    @Test
+    void malformedCursorRejected() {
+        String badDate = encode("2025-13-01T00:00|1");
+        String badId = encode("2025-03-01T00:00|x");
+        String truncated = VideoService.encodeCursor(LocalDateTime.of(2025, 3, 1, 0, 0), 1L);
+
+        assertThatThrownBy(() -> VideoService.decodeCursor(badDate))
+                .hasMessageStartingWith("잘못된 cursor");
+        assertThatThrownBy(() -> VideoService.decodeCursor(badId))
+                .hasMessageStartingWith("잘못된 cursor");
+        assertThatThrownBy(() -> VideoService.decodeCursor(truncated.substring(0, truncated.length() / 2)))
+                .hasMessageStartingWith("잘못된 cursor");
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}